@@ -19,22 +19,24 @@ package dev.lambdaurora.quakecraft;
 
 import dev.lambdaurora.quakecraft.game.QuakecraftConfig;
 import dev.lambdaurora.quakecraft.game.QuakecraftLogic;
+import dev.lambdaurora.quakecraft.game.QuakecraftPlayer;
 import dev.lambdaurora.quakecraft.game.QuakecraftWaiting;
-import dev.lambdaurora.quakecraft.mixin.FireworkRocketEntityAccessor;
-import it.unimi.dsi.fastutil.ints.IntList;
+import dev.lambdaurora.quakecraft.game.map.MapBuilder;
+import dev.lambdaurora.quakecraft.game.map.MapCache;
+import dev.lambdaurora.quakecraft.weapon.WeaponLoader;
 import net.fabricmc.api.ModInitializer;
-import net.minecraft.component.DataComponentTypes;
-import net.minecraft.component.type.FireworkExplosionComponent;
-import net.minecraft.component.type.FireworksComponent;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.entity.attribute.EntityAttributes;
-import net.minecraft.entity.projectile.FireworkRocketEntity;
-import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtList;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.Direction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,34 +44,82 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import xyz.nucleoid.plasmid.api.game.GameType;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents the Quakecraft minigame mod.
  *
  * @author LambdAurora
- * @version 1.7.3
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class Quakecraft implements ModInitializer {
 	public static final String NAMESPACE = "quakecraft";
+	/**
+	 * The maximum amount of maps kept in the map cache.
+	 */
+	private static final int MAX_CACHED_MAPS = 4;
+	/**
+	 * The system property listing the maps to load in the background when the server starts, as comma-separated identifiers.
+	 */
+	private static final String PRELOAD_MAPS_PROPERTY = "quakecraft.preloadMaps";
 	private static Quakecraft INSTANCE;
 	public final Logger logger = LogManager.getLogger(NAMESPACE);
-	private final List<QuakecraftLogic> activeGames = new ArrayList<>();
-	private final List<ServerPlayerEntity> activePlayers = new ArrayList<>();
+	private final Map<ServerWorld, QuakecraftLogic> activeGames = new ConcurrentHashMap<>();
+	private final Map<UUID, ActivePlayer> activePlayers = new ConcurrentHashMap<>();
+	private final MapCache mapCache = new MapCache(MAX_CACHED_MAPS);
 
 	@Override
 	public void onInitialize() {
 		INSTANCE = this;
 
 		QuakecraftRegistry.init();
+		ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new WeaponLoader());
+		ServerLifecycleEvents.SERVER_STARTED.register(this::preloadMaps);
+		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+			this.mapCache.clear();
+			this.preloadMaps(server);
+		});
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> this.mapCache.clear());
+		ServerTickEvents.END_SERVER_TICK.register(server -> this.activeGames.values().forEach(QuakecraftLogic::flushExplosions));
 
 		GameType.register(Identifier.of(NAMESPACE, "quakecraft"),
 				QuakecraftConfig.CODEC, QuakecraftWaiting::open);
 	}
 
+	/**
+	 * Loads the maps listed in the {@value #PRELOAD_MAPS_PROPERTY} system property on the worker threads,
+	 * so the first games on these maps open without parsing them.
+	 *
+	 * @param server the server
+	 */
+	private void preloadMaps(MinecraftServer server) {
+		var property = System.getProperty(PRELOAD_MAPS_PROPERTY);
+		if (property == null || property.isBlank())
+			return;
+
+		for (var value : property.split(",")) {
+			var id = Identifier.tryParse(value.trim());
+			if (id == null) {
+				this.logger.warn("Invalid map identifier \"{}\" in {}.", value, PRELOAD_MAPS_PROPERTY);
+				continue;
+			}
+
+			CompletableFuture.runAsync(() -> {
+				try {
+					MapBuilder.preload(server, id);
+					this.log("Preloaded map " + id + ".");
+				} catch (Exception e) {
+					this.logger.error("Could not preload map {}.", id, e);
+				}
+			}, Util.getMainWorkerExecutor());
+		}
+	}
+
 	/**
 	 * Prints a message to the terminal.
 	 *
@@ -79,28 +129,90 @@ public class Quakecraft implements ModInitializer {
 		this.logger.info("[" + NAMESPACE + "] " + info);
 	}
 
-	public void addActivePlayer(@NotNull ServerPlayerEntity player) {
-		this.activePlayers.add(player);
+	/**
+	 * Marks the specified player as being in a running game.
+	 *
+	 * @param player the player
+	 * @param game the game the player is in
+	 * @param participant the participant of the player, or {@code null} if the player is spectating
+	 */
+	public void addActivePlayer(@NotNull ServerPlayerEntity player, @NotNull QuakecraftLogic game, @Nullable QuakecraftPlayer participant) {
+		this.activePlayers.put(player.getUuid(), new ActivePlayer(game, participant));
 	}
 
-	public void removeActivePlayer(@NotNull ServerPlayerEntity player) {
-		this.activePlayers.remove(player);
+	/**
+	 * Unmarks the specified player as being in the specified running game.
+	 * <p>
+	 * If the player has since been marked as being in another game, it stays active.
+	 *
+	 * @param player the player
+	 * @param game the game the player was in
+	 */
+	public void removeActivePlayer(@NotNull ServerPlayerEntity player, @NotNull QuakecraftLogic game) {
+		this.activePlayers.computeIfPresent(player.getUuid(), (uuid, active) -> active.game() == game ? null : active);
 	}
 
 	public boolean isPlayerActive(@NotNull ServerPlayerEntity player) {
-		return this.activePlayers.contains(player);
+		return this.activePlayers.containsKey(player.getUuid());
+	}
+
+	/**
+	 * Returns the participant of the specified player in a running game.
+	 * <p>
+	 * The participant holds the current team of the player, this lookup doesn't allocate.
+	 *
+	 * @param player the player
+	 * @return the participant if the player participates in a running game, else {@code null}
+	 */
+	public @Nullable QuakecraftPlayer getActiveParticipant(@NotNull ServerPlayerEntity player) {
+		var active = this.activePlayers.get(player.getUuid());
+		return active == null ? null : active.participant();
+	}
+
+	/**
+	 * Returns the running game the specified player is in.
+	 *
+	 * @param player the player
+	 * @return the game if the player is in a running game, else {@code null}
+	 */
+	public @Nullable QuakecraftLogic getActiveGame(@NotNull ServerPlayerEntity player) {
+		var active = this.activePlayers.get(player.getUuid());
+		return active == null ? null : active.game();
 	}
 
 	public void addActiveGame(@NotNull QuakecraftLogic game) {
-		this.activeGames.add(game);
+		this.activeGames.put(game.world(), game);
 	}
 
+	/**
+	 * Removes the specified game from the running games, along with all of its players.
+	 * <p>
+	 * This may be called more than once, as a game can be closed abnormally.
+	 *
+	 * @param game the game
+	 */
 	public void removeActiveGame(@NotNull QuakecraftLogic game) {
-		this.activeGames.remove(game);
+		this.activeGames.remove(game.world(), game);
+		this.activePlayers.values().removeIf(active -> active.game() == game);
 	}
 
-	public List<QuakecraftLogic> getActiveGames() {
-		return this.activeGames;
+	/**
+	 * Returns the cache of the loaded maps.
+	 *
+	 * @return the map cache
+	 */
+	public MapCache getMapCache() {
+		return this.mapCache;
+	}
+
+	/**
+	 * Returns the active game running in the specified world.
+	 *
+	 * @param world the world
+	 * @return the game if found, else {@code null}
+	 */
+	public @Nullable QuakecraftLogic getActiveGame(@NotNull ServerWorld world) {
+		return this.activeGames.get(world);
 	}
 
 	public static Quakecraft get() {
@@ -142,15 +254,12 @@ public class Quakecraft implements ModInitializer {
 		return name == null ? null : Direction.byName(name.toLowerCase(Locale.ROOT));
 	}
 
-	public static void spawnFirework(ServerWorld world, double x, double y, double z, int[] colors, boolean silent, int lifetime) {
-		var fireworkStack = new ItemStack(Items.FIREWORK_ROCKET);
-
-		fireworkStack.set(DataComponentTypes.FIREWORKS, new FireworksComponent(0, List.of(new FireworkExplosionComponent(FireworkExplosionComponent.Type.SMALL_BALL,
-				IntList.of(colors), IntList.of(), false, false))));
-		var firework = new FireworkRocketEntity(world, x, y, z, fireworkStack);
-		firework.setSilent(silent);
-		if (lifetime >= 0)
-			((FireworkRocketEntityAccessor) firework).setLifeTime(lifetime);
-		world.spawnEntity(firework);
+	/**
+	 * Represents a player in a running game.
+	 *
+	 * @param game the game
+	 * @param participant the participant of the player, or {@code null} if the player is spectating
+	 */
+	private record ActivePlayer(QuakecraftLogic game, @Nullable QuakecraftPlayer participant) {
 	}
 }
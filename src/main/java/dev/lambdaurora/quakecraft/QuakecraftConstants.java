@@ -17,6 +17,7 @@
 
 package dev.lambdaurora.quakecraft;
 
+import dev.lambdaurora.quakecraft.util.FireworkPalette;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.attribute.EntityAttributeModifier;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -30,7 +31,7 @@ import java.util.function.Predicate;
  * Represents constants used in Quakecraft.
  *
  * @author LambdAurora
- * @version 1.1.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class QuakecraftConstants {
@@ -45,6 +46,11 @@ public class QuakecraftConstants {
 	public static final Predicate<Entity> PLAYER_PREDICATE = entity -> entity instanceof ServerPlayerEntity
 			&& ((ServerPlayerEntity) entity).interactionManager.getGameMode() != GameMode.SPECTATOR;
 
+	/**
+	 * Represents the colors of the fireworks of kills and victories.
+	 */
+	public static final FireworkPalette FIREWORK_PALETTE = FireworkPalette.of(15435844, 11743532);
+
 	public static final EntityAttributeModifier PLAYER_MOVEMENT_SPEED_MODIFIER = new EntityAttributeModifier(
 			 Identifier.of("quakecraft", "movement.speed"),
 			2 * 0.20000000298023224D,
@@ -19,13 +19,9 @@ package dev.lambdaurora.quakecraft;
 
 import dev.lambdaurora.quakecraft.block.LaunchPadBlock;
 import dev.lambdaurora.quakecraft.block.TeamBarrierBlock;
-import dev.lambdaurora.quakecraft.block.entity.TeamBarrierBlockEntity;
-import eu.pb4.polymer.core.api.block.PolymerBlockUtils;
-import net.fabricmc.fabric.api.object.builder.v1.block.entity.FabricBlockEntityTypeBuilder;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
-import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
@@ -39,7 +35,7 @@ import java.util.function.Function;
  * Contains static definitions of custom blocks, items, etc.
  *
  * @author LambdAurora
- * @version 1.7.3
+ * @version 1.8.0
  * @since 1.6.1
  */
 public class QuakecraftRegistry {
@@ -58,11 +54,6 @@ public class QuakecraftRegistry {
 
 	public static TeamBarrierBlock TEAM_BARRIER_BLOCK = register("team_barrier", TeamBarrierBlock::new);
 
-	public static BlockEntityType<TeamBarrierBlockEntity> TEAM_BARRIER_BLOCK_ENTITY = Registry.register(Registries.BLOCK_ENTITY_TYPE,
-			Quakecraft.id("team_barrier"),
-			FabricBlockEntityTypeBuilder.create(TeamBarrierBlockEntity::new, TEAM_BARRIER_BLOCK).build()
-	);
-
 	private static <T extends Block> T register(String identifier, Function<AbstractBlock.Settings, T> function) {
 		return register(Registries.BLOCK, identifier, function.apply(AbstractBlock.Settings.create().registryKey(RegistryKey.of(RegistryKeys.BLOCK, Quakecraft.id(identifier)))));
 	}
@@ -74,8 +65,4 @@ public class QuakecraftRegistry {
 	public static void init() {
 		Quakecraft.get().log("Registered custom blocks, items...");
 	}
-
-	static {
-		PolymerBlockUtils.registerBlockEntity(TEAM_BARRIER_BLOCK_ENTITY);
-	}
 }
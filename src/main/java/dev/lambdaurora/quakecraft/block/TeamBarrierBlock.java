@@ -17,70 +17,64 @@
 
 package dev.lambdaurora.quakecraft.block;
 
-import com.mojang.serialization.MapCodec;
 import dev.lambdaurora.quakecraft.Quakecraft;
 import dev.lambdaurora.quakecraft.QuakecraftRegistry;
-import dev.lambdaurora.quakecraft.block.entity.TeamBarrierBlockEntity;
-import dev.lambdaurora.quakecraft.game.QuakecraftPlayer;
 import dev.lambdaurora.quakecraft.util.RayAccessor;
 import dev.lambdaurora.quakecraft.util.UsefulEntityShapeContext;
 import eu.pb4.polymer.core.api.block.PolymerBlock;
 import net.minecraft.block.*;
-import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.state.StateManager;
+import net.minecraft.state.property.IntProperty;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.BlockView;
-import org.jetbrains.annotations.Nullable;
 import xyz.nucleoid.packettweaker.PacketContext;
-import xyz.nucleoid.plasmid.api.game.common.team.GameTeam;
 
 /**
  * Represents a team barrier block.
  * <p>
  * The block collisions only with players of a different team.
+ * The team is stored in the block state as its index in the teams of the game, {@code 0} being no team.
  *
  * @author LambdAurora
- * @version 1.7.3
+ * @version 1.8.0
  * @since 1.5.0
  */
-public class TeamBarrierBlock extends BlockWithEntity implements PolymerBlock {
+public class TeamBarrierBlock extends Block implements PolymerBlock {
+	public static final int NO_TEAM = 0;
+	public static final int MAX_TEAMS = 15;
+	public static final IntProperty TEAM = IntProperty.of("team", NO_TEAM, MAX_TEAMS);
+
 	public TeamBarrierBlock(AbstractBlock.Settings settings) {
 		super(settings.mapColor(MapColor.CLEAR).strength(-1.0F, 3600000.0F)
 				.nonOpaque().dynamicBounds().dropsNothing());
+		this.setDefaultState(this.stateManager.getDefaultState().with(TEAM, NO_TEAM));
 	}
 
 	@Override
-	protected MapCodec<? extends BlockWithEntity> getCodec() {
-		return null;
+	protected void appendProperties(StateManager.Builder<Block, BlockState> builder) {
+		super.appendProperties(builder);
+		builder.add(TEAM);
 	}
 
 	@Override
 	public VoxelShape getCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
-		TeamBarrierBlockEntity blockEntity = QuakecraftRegistry.TEAM_BARRIER_BLOCK_ENTITY.get(world, pos);
-		GameTeam team = blockEntity == null ? null : blockEntity.getTeam();
+		int team = state.get(TEAM);
 
-		if (team == null)
+		if (team == NO_TEAM)
 			return VoxelShapes.empty();
 
 		if (context instanceof UsefulEntityShapeContext) {
 			var entity = ((UsefulEntityShapeContext) context).quakecraft$getEntity();
 			if (entity instanceof ServerPlayerEntity player && !((RayAccessor) entity).quakecraft$isRaycasting()) {
-				var quakecraft = Quakecraft.get();
-				if (quakecraft.isPlayerActive(player)) {
-					for (var game : quakecraft.getActiveGames()) {
-						if (game.getTeams().size() != 0 && game.getSpace().getPlayers().contains(player)) {
-							var pTeam = game.getOptParticipant(player).map(QuakecraftPlayer::getTeam).orElse(null);
-							if (pTeam != null) {
-								if (team != pTeam) {
-									return VoxelShapes.fullCube();
-								} else {
-									return VoxelShapes.empty();
-								}
-							}
-						}
+				var participant = Quakecraft.get().getActiveParticipant(player);
+				if (participant != null) {
+					int pTeam = participant.getTeamIndex();
+					if (pTeam != NO_TEAM && team != pTeam) {
+						return VoxelShapes.fullCube();
 					}
 				}
 			}
@@ -93,17 +87,24 @@ public class TeamBarrierBlock extends BlockWithEntity implements PolymerBlock {
 		return Blocks.AIR.getDefaultState();
 	}
 
-	@Override
-	public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
-		return QuakecraftRegistry.TEAM_BARRIER_BLOCK_ENTITY.instantiate(pos, state);
+	/**
+	 * Returns the team barrier state for the specified team.
+	 *
+	 * @param team the index of the team in the teams of the game plus one, or {@link #NO_TEAM}
+	 * @return the block state
+	 */
+	public static BlockState getState(int team) {
+		return QuakecraftRegistry.TEAM_BARRIER_BLOCK.getDefaultState().with(TEAM, team);
 	}
 
-	public static void createAt(ServerWorld world, BlockPos pos, @Nullable GameTeam team) {
-		var block = QuakecraftRegistry.TEAM_BARRIER_BLOCK;
-
-		world.setBlockState(pos, block.getDefaultState(),
-				Block.SKIP_DROPS | Block.FORCE_STATE | Block.REDRAW_ON_MAIN_THREAD | Block.NOTIFY_ALL);
-		var blockEntity = QuakecraftRegistry.TEAM_BARRIER_BLOCK_ENTITY.get(world, pos);
-		blockEntity.setTeam(team);
+	/**
+	 * Creates a team barrier at the specified position.
+	 *
+	 * @param world the world
+	 * @param pos the position
+	 * @param team the index of the team allowed to pass through the barrier plus one, or {@link #NO_TEAM}
+	 */
+	public static void createAt(ServerWorld world, BlockPos pos, int team) {
+		world.setBlockState(pos, getState(team), Block.SKIP_DROPS | Block.FORCE_STATE | Block.REDRAW_ON_MAIN_THREAD | Block.NOTIFY_ALL);
 	}
 }
@@ -17,6 +17,7 @@
 
 package dev.lambdaurora.quakecraft.entity;
 
+import dev.lambdaurora.quakecraft.util.VisualEffects;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
@@ -27,7 +28,7 @@ import org.jetbrains.annotations.NotNull;
  * Represents a projectile entity that can deal critical damage.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.3.0
  */
 public interface CritableEntity {
@@ -38,22 +39,17 @@ public interface CritableEntity {
 	void rollCritical();
 
 	static void spawnCritParticles(@NotNull World world, double x, double y, double z, Vec3d velocity) {
+		if (world instanceof ServerWorld serverWorld) {
+			VisualEffects.of(serverWorld).spawnCritTrail(x, y, z, velocity.getX(), velocity.getY(), velocity.getZ());
+			return;
+		}
+
 		for (int i = 0; i < 4; i++) {
-			if (world.isClient()) {
-				world.addParticle(ParticleTypes.CRIT,
-						x + velocity.getX() * i / 4.0D,
-						y + velocity.getY() * i / 4.0D,
-						z + velocity.getZ() * i / 4.0D,
-						-velocity.getX(), -velocity.getY() + 0.2D, -velocity.getZ());
-			} else {
-				((ServerWorld) world).spawnParticles(ParticleTypes.CRIT,
-						x + velocity.getX() * i / 4.0,
-						y + velocity.getY() * i / 4.0,
-						z + velocity.getZ() * i / 4.0,
-						1,
-						-velocity.getX(), -velocity.getY() + 0.2, -velocity.getZ(),
-						0.5);
-			}
+			world.addParticle(ParticleTypes.CRIT,
+					x + velocity.getX() * i / 4.0D,
+					y + velocity.getY() * i / 4.0D,
+					z + velocity.getZ() * i / 4.0D,
+					-velocity.getX(), -velocity.getY() + 0.2D, -velocity.getZ());
 		}
 	}
 }
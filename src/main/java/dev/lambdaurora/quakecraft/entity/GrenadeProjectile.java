@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.entity;
+
+import dev.lambdaurora.quakecraft.game.QuakecraftLogic;
+import dev.lambdaurora.quakecraft.game.QuakecraftPlayer;
+import dev.lambdaurora.quakecraft.game.map.MapCollision;
+import dev.lambdaurora.quakecraft.mixin.BlockDisplayEntityAccessor;
+import dev.lambdaurora.quakecraft.mixin.DisplayEntityAccessor;
+import dev.lambdaurora.quakecraft.util.RayUtils;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.decoration.DisplayEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.AffineTransformation;
+import net.minecraft.util.math.MathHelper;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Represents a grenade, simulated by its game instead of being a full entity.
+ * <p>
+ * The physics are integrated in primitives against the map collisions, participants are looked up in the participant index,
+ * and the grenade is only shown to clients through a block display entity.
+ * The bounding box of the grenade is swept with rays from its center and the corners of its cross-section,
+ * and it collides with the team barriers of the other teams.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class GrenadeProjectile implements QuakecraftProjectile, CritableEntity {
+	private static final double RADIUS = 0.2;
+	/**
+	 * The amount the corner rays are moved inwards by, so a grenade resting against a block doesn't start its rays inside it.
+	 */
+	private static final double CORNER_EPSILON = 1.0E-4;
+	private static final double GRAVITY = 0.04;
+	private static final double DRAG = 0.98;
+	private static final double GROUND_FRICTION = 0.7;
+	/**
+	 * The margin added around the bounding box of the participants when testing hits, like vanilla projectiles.
+	 */
+	private static final double HIT_MARGIN = 0.3;
+	private static final AffineTransformation DISPLAY_TRANSFORMATION = new AffineTransformation(
+			new Vector3f((float) -RADIUS, (float) -RADIUS, (float) -RADIUS), new Quaternionf(),
+			new Vector3f((float) (RADIUS * 2.0)), new Quaternionf()
+	);
+
+	private final QuakecraftLogic game;
+	private final QuakecraftPlayer shooter;
+	private final int lifetime;
+	private final DisplayEntity.BlockDisplayEntity display;
+	private double x;
+	private double y;
+	private double z;
+	private double velocityX;
+	private double velocityY;
+	private double velocityZ;
+	private boolean onGround = false;
+	private boolean leftShooter = false;
+	private int life = 0;
+	private boolean critical = false;
+
+	public GrenadeProjectile(QuakecraftLogic game, QuakecraftPlayer shooter, ServerPlayerEntity player, int lifetime) {
+		this.game = game;
+		this.shooter = shooter;
+		this.lifetime = lifetime;
+		this.x = player.getX();
+		this.y = player.getEyeY() - 0.1;
+		this.z = player.getZ();
+
+		this.display = new DisplayEntity.BlockDisplayEntity(EntityType.BLOCK_DISPLAY, game.world());
+		((BlockDisplayEntityAccessor) this.display).invokeSetBlockState(Blocks.MAGMA_BLOCK.getDefaultState());
+		((DisplayEntityAccessor) this.display).invokeSetTransformation(DISPLAY_TRANSFORMATION);
+		((DisplayEntityAccessor) this.display).invokeSetTeleportDuration(1);
+		this.display.setPosition(this.x, this.y, this.z);
+	}
+
+	/**
+	 * Throws this grenade in the look direction of the specified player.
+	 *
+	 * @param player the player throwing the grenade
+	 * @param speed the speed of the grenade
+	 * @param divergence the random divergence of the direction
+	 */
+	public void launch(ServerPlayerEntity player, float speed, float divergence) {
+		float pitch = player.getPitch() * MathHelper.RADIANS_PER_DEGREE;
+		float yaw = player.getYaw() * MathHelper.RADIANS_PER_DEGREE;
+		double directionX = -MathHelper.sin(yaw) * MathHelper.cos(pitch);
+		double directionY = -MathHelper.sin(pitch);
+		double directionZ = MathHelper.cos(yaw) * MathHelper.cos(pitch);
+
+		var random = player.getRandom();
+		double spread = 0.0075 * divergence;
+		this.velocityX = (directionX + random.nextGaussian() * spread) * speed;
+		this.velocityY = (directionY + random.nextGaussian() * spread) * speed;
+		this.velocityZ = (directionZ + random.nextGaussian() * spread) * speed;
+
+		var playerVelocity = player.getVelocity();
+		this.velocityX += playerVelocity.x;
+		this.velocityY += player.isOnGround() ? 0.0 : playerVelocity.y;
+		this.velocityZ += playerVelocity.z;
+
+		this.rollCritical();
+		this.game.world().spawnEntity(this.display);
+	}
+
+	@Override
+	public QuakecraftPlayer getShooter() {
+		return this.shooter;
+	}
+
+	/**
+	 * Ticks this grenade.
+	 *
+	 * @return {@code true} if the grenade is still alive, or {@code false} if it has detonated
+	 */
+	public boolean tick() {
+		double startX = this.x;
+		double startY = this.y;
+		double startZ = this.z;
+
+		this.velocityY -= GRAVITY;
+		this.move();
+
+		this.velocityX *= DRAG;
+		this.velocityY *= DRAG;
+		this.velocityZ *= DRAG;
+		if (this.onGround) {
+			this.velocityX *= GROUND_FRICTION;
+			this.velocityZ *= GROUND_FRICTION;
+		}
+
+		this.display.setPosition(this.x, this.y, this.z);
+
+		this.life++;
+		if (this.life >= this.lifetime || this.hitsParticipant(startX, startY, startZ)) {
+			this.detonate();
+			return false;
+		}
+
+		if (this.isCritical()) {
+			this.game.getVisualEffects().spawnCritTrail(this.x, this.y, this.z, this.velocityX, this.velocityY, this.velocityZ);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Moves this grenade one axis at a time, stopping each axis at the first block collision.
+	 */
+	private void move() {
+		var collision = this.game.map().collision();
+
+		if (this.velocityY != 0.0) {
+			double sign = Math.signum(this.velocityY);
+			double hit = this.sweep(collision, 0.0, sign, 0.0, Math.abs(this.velocityY) + RADIUS);
+			this.onGround = hit >= 0.0 && sign < 0.0;
+			if (hit >= 0.0) {
+				this.y += sign * Math.max(0.0, hit - RADIUS);
+				this.velocityY = 0.0;
+			} else {
+				this.y += this.velocityY;
+			}
+		}
+
+		if (this.velocityX != 0.0) {
+			double sign = Math.signum(this.velocityX);
+			double hit = this.sweep(collision, sign, 0.0, 0.0, Math.abs(this.velocityX) + RADIUS);
+			if (hit >= 0.0) {
+				this.x += sign * Math.max(0.0, hit - RADIUS);
+				this.velocityX = 0.0;
+			} else {
+				this.x += this.velocityX;
+			}
+		}
+
+		if (this.velocityZ != 0.0) {
+			double sign = Math.signum(this.velocityZ);
+			double hit = this.sweep(collision, 0.0, 0.0, sign, Math.abs(this.velocityZ) + RADIUS);
+			if (hit >= 0.0) {
+				this.z += sign * Math.max(0.0, hit - RADIUS);
+				this.velocityZ = 0.0;
+			} else {
+				this.z += this.velocityZ;
+			}
+		}
+	}
+
+	/**
+	 * Sweeps the bounding box of this grenade along an axis, casting a ray from its center and from each corner of its cross-section.
+	 *
+	 * @return the distance of the closest hit, or {@code -1} if no block is hit
+	 */
+	private double sweep(MapCollision collision, double directionX, double directionY, double directionZ, double range) {
+		int team = this.shooter.getTeamIndex();
+		double hit = collision.raycast(this.x, this.y, this.z, directionX, directionY, directionZ, range, team);
+
+		double corner = RADIUS - CORNER_EPSILON;
+		for (int i = 0; i < 4; i++) {
+			double a = (i & 1) == 0 ? -corner : corner;
+			double b = (i & 2) == 0 ? -corner : corner;
+			// The two offsets go on the axes perpendicular to the sweep.
+			double offsetX = directionX != 0.0 ? 0.0 : a;
+			double offsetY = directionY != 0.0 ? 0.0 : (directionX != 0.0 ? a : b);
+			double offsetZ = directionZ != 0.0 ? 0.0 : b;
+
+			double cornerHit = collision.raycast(this.x + offsetX, this.y + offsetY, this.z + offsetZ,
+					directionX, directionY, directionZ, range, team);
+			if (cornerHit >= 0.0 && (hit < 0.0 || cornerHit < hit))
+				hit = cornerHit;
+		}
+
+		return hit;
+	}
+
+	/**
+	 * Returns whether this grenade hit a participant while moving from the specified position to its current position.
+	 * <p>
+	 * The shooter is ignored until the grenade has left their bounding box.
+	 */
+	private boolean hitsParticipant(double startX, double startY, double startZ) {
+		double deltaX = this.x - startX;
+		double deltaY = this.y - startY;
+		double deltaZ = this.z - startZ;
+		double length = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+		if (length > 1.0E-6) {
+			deltaX /= length;
+			deltaY /= length;
+			deltaZ /= length;
+		} else {
+			deltaX = deltaY = deltaZ = length = 0.0;
+		}
+
+		double margin = RADIUS + HIT_MARGIN;
+		var index = this.game.getParticipantIndex();
+		int count = index.query(
+				Math.min(startX, this.x) - margin, Math.min(startY, this.y) - margin, Math.min(startZ, this.z) - margin,
+				Math.max(startX, this.x) + margin, Math.max(startY, this.y) + margin, Math.max(startZ, this.z) + margin
+		);
+
+		boolean nearShooter = false;
+		for (int i = 0; i < count; i++) {
+			var participant = index.getResult(i);
+			if (participant == this.shooter) {
+				nearShooter = true;
+				if (!this.leftShooter)
+					continue;
+			}
+
+			var box = participant.getPlayer().getBoundingBox();
+			if (RayUtils.intersectBox(startX, startY, startZ, deltaX, deltaY, deltaZ, length,
+					box.minX - margin, box.minY - margin, box.minZ - margin,
+					box.maxX + margin, box.maxY + margin, box.maxZ + margin) >= 0.0)
+				return true;
+		}
+
+		if (!nearShooter)
+			this.leftShooter = true;
+		return false;
+	}
+
+	/**
+	 * Makes this grenade explode, the explosion is attributed to its shooter.
+	 */
+	public void detonate() {
+		this.display.discard();
+		this.game.explode(this.shooter, this.x, this.y, this.z, this.critical ? 2.5f : 1.5f);
+	}
+
+	/**
+	 * Removes this grenade without making it explode.
+	 */
+	public void discard() {
+		this.display.discard();
+	}
+
+	@Override
+	public boolean isCritical() {
+		return this.critical;
+	}
+
+	@Override
+	public void setCritical(boolean critical) {
+		this.critical = critical;
+	}
+
+	@Override
+	public void rollCritical() {
+		this.setCritical(this.game.world().getRandom().nextInt(6) == 0);
+	}
+}
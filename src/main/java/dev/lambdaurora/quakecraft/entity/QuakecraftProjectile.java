@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.entity;
+
+import dev.lambdaurora.quakecraft.game.QuakecraftPlayer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a projectile fired by a participant of a Quakecraft game.
+ * <p>
+ * The shooter is kept as a direct reference to its participant, which always points to the current player entity,
+ * so damage can be attributed without looking the owner up by UUID.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public interface QuakecraftProjectile {
+	/**
+	 * Returns the participant who fired this projectile.
+	 *
+	 * @return the shooter, or {@code null} if this projectile was not fired by a participant
+	 */
+	@Nullable QuakecraftPlayer getShooter();
+}
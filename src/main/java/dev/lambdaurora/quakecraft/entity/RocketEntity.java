@@ -17,6 +17,8 @@
 
 package dev.lambdaurora.quakecraft.entity;
 
+import dev.lambdaurora.quakecraft.Quakecraft;
+import dev.lambdaurora.quakecraft.game.QuakecraftPlayer;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.projectile.FireballEntity;
@@ -26,23 +28,41 @@ import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a rocket entity.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.3.0
  */
-public class RocketEntity extends FireballEntity implements CritableEntity {
+public class RocketEntity extends FireballEntity implements QuakecraftProjectile, CritableEntity {
+	private final @Nullable QuakecraftPlayer shooter;
 	private boolean critical = false;
 
-	public RocketEntity(World world, LivingEntity owner, double velocityX, double velocityY, double velocityZ) {
+	public RocketEntity(World world, LivingEntity owner, @Nullable QuakecraftPlayer shooter,
+	                    double velocityX, double velocityY, double velocityZ) {
 		super(world, owner, new Vec3d(velocityX, velocityY, velocityZ), 1);
+		this.shooter = shooter;
+	}
+
+	@Override
+	public @Nullable QuakecraftPlayer getShooter() {
+		return this.shooter;
 	}
 
 	public void detonate(ServerWorld world) {
+		if (this.isRemoved())
+			return;
 		this.kill(world);
+
+		var game = Quakecraft.get().getActiveGame(world);
+		if (game != null) {
+			game.explode(this.shooter, this.getX(), this.getEyeY(), this.getZ(), this.critical ? 2.75f : 1.75f);
+			return;
+		}
+
 		world.createExplosion(this, this.getX(), this.getEyeY(), this.getZ(), critical ? 2.75f : 1.75f,
 				World.ExplosionSourceType.NONE);
 	}
@@ -69,8 +89,9 @@ public class RocketEntity extends FireballEntity implements CritableEntity {
 	@Override
 	protected void onCollision(HitResult hitResult) {
 		if (hitResult.getType() == HitResult.Type.ENTITY) {
-			if (((EntityHitResult) hitResult).getEntity() instanceof RocketEntity) {
-				((EntityHitResult) hitResult).getEntity().kill((ServerWorld) this.getWorld());
+			if (((EntityHitResult) hitResult).getEntity() instanceof RocketEntity other) {
+				// Both explosions are queued at the same spot and merged when resolved.
+				other.detonate((ServerWorld) this.getWorld());
 				this.detonate((ServerWorld) this.getWorld());
 				return;
 			}
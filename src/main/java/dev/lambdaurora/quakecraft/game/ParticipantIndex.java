@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game;
+
+import dev.lambdaurora.quakecraft.util.RayUtils;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Represents a spatial hash of the participants of a game that are currently playing.
+ * <p>
+ * Participants are bucketed in uniform cells covering their bounding box, and only move between buckets when they cross a cell border.
+ * The covered cells are widened by the distance travelled since the last update, so fast participants stay found until the next one.
+ * Queries write their results in preallocated arrays, retrieved with {@link #getResult(int)} until the next query.
+ * Cell crossings are reported to the registered {@link CellListener listeners}.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class ParticipantIndex {
+	private static final int CELL_SHIFT = 3;
+	private static final double CELL_SIZE = 1 << CELL_SHIFT;
+	/**
+	 * The margin added around bounding boxes when bucketing them, this is also the maximum margin of ray queries.
+	 */
+	public static final double CELL_MARGIN = 1.0;
+
+	private final QuakecraftPlayer[] slots;
+	private final Long2ObjectMap<IntArrayList> cells = new Long2ObjectOpenHashMap<>();
+	private final boolean[] indexed;
+	private final int[] cellBounds;
+	private final double[] lastPositions;
+	private final int[] stamps;
+	private final QuakecraftPlayer[] results;
+	private final double[] resultDistances;
+	private final List<CellListener> listeners = new ArrayList<>();
+	private int stamp = 0;
+
+	public ParticipantIndex(Collection<QuakecraftPlayer> participants) {
+		this.slots = new QuakecraftPlayer[participants.size()];
+		for (var participant : participants) {
+			this.slots[participant.index] = participant;
+		}
+
+		this.indexed = new boolean[this.slots.length];
+		this.cellBounds = new int[this.slots.length * 6];
+		this.lastPositions = new double[this.slots.length * 3];
+		this.stamps = new int[this.slots.length];
+		this.results = new QuakecraftPlayer[this.slots.length];
+		this.resultDistances = new double[this.slots.length];
+	}
+
+	/**
+	 * Registers a listener of cell crossings, which is immediately notified of the currently indexed participants.
+	 *
+	 * @param listener the listener
+	 */
+	public void addListener(CellListener listener) {
+		this.listeners.add(listener);
+
+		for (int slot = 0; slot < this.slots.length; slot++) {
+			if (this.indexed[slot])
+				this.notifyCellsChanged(slot);
+		}
+	}
+
+	/**
+	 * Moves the participants which crossed a cell border to their new cells.
+	 */
+	public void update() {
+		for (int slot = 0; slot < this.slots.length; slot++) {
+			this.update(slot, false);
+		}
+	}
+
+	/**
+	 * Moves the specified participant to its new cells, called when it is teleported.
+	 * <p>
+	 * The distance of the teleport doesn't widen the covered cells.
+	 *
+	 * @param participant the participant
+	 */
+	public void update(QuakecraftPlayer participant) {
+		this.update(participant.index, true);
+	}
+
+	private void update(int slot, boolean teleported) {
+		var participant = this.slots[slot];
+
+		if (!participant.isPlaying()) {
+			if (this.indexed[slot]) {
+				this.remove(slot);
+				for (var listener : this.listeners) {
+					listener.onRemoved(participant);
+				}
+			}
+			return;
+		}
+
+		var box = participant.getPlayer().getBoundingBox();
+		int position = slot * 3;
+		double marginX = CELL_MARGIN;
+		double marginY = CELL_MARGIN;
+		double marginZ = CELL_MARGIN;
+		if (this.indexed[slot] && !teleported) {
+			marginX += Math.abs(box.minX - this.lastPositions[position]);
+			marginY += Math.abs(box.minY - this.lastPositions[position + 1]);
+			marginZ += Math.abs(box.minZ - this.lastPositions[position + 2]);
+		}
+		this.lastPositions[position] = box.minX;
+		this.lastPositions[position + 1] = box.minY;
+		this.lastPositions[position + 2] = box.minZ;
+
+		int minX = toCell(box.minX - marginX);
+		int minY = toCell(box.minY - marginY);
+		int minZ = toCell(box.minZ - marginZ);
+		int maxX = toCell(box.maxX + marginX);
+		int maxY = toCell(box.maxY + marginY);
+		int maxZ = toCell(box.maxZ + marginZ);
+
+		int offset = slot * 6;
+		if (this.indexed[slot]) {
+			if (this.cellBounds[offset] == minX && this.cellBounds[offset + 1] == minY && this.cellBounds[offset + 2] == minZ
+					&& this.cellBounds[offset + 3] == maxX && this.cellBounds[offset + 4] == maxY && this.cellBounds[offset + 5] == maxZ)
+				return;
+
+			this.remove(slot);
+		}
+
+		this.cellBounds[offset] = minX;
+		this.cellBounds[offset + 1] = minY;
+		this.cellBounds[offset + 2] = minZ;
+		this.cellBounds[offset + 3] = maxX;
+		this.cellBounds[offset + 4] = maxY;
+		this.cellBounds[offset + 5] = maxZ;
+
+		for (int y = minY; y <= maxY; y++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				for (int x = minX; x <= maxX; x++) {
+					var cell = this.cells.get(BlockPos.asLong(x, y, z));
+					if (cell == null) {
+						cell = new IntArrayList(4);
+						this.cells.put(BlockPos.asLong(x, y, z), cell);
+					}
+					cell.add(slot);
+				}
+			}
+		}
+		this.indexed[slot] = true;
+		this.notifyCellsChanged(slot);
+	}
+
+	private void notifyCellsChanged(int slot) {
+		int offset = slot * 6;
+		for (var listener : this.listeners) {
+			listener.onCellsChanged(this.slots[slot],
+					this.cellBounds[offset], this.cellBounds[offset + 1], this.cellBounds[offset + 2],
+					this.cellBounds[offset + 3], this.cellBounds[offset + 4], this.cellBounds[offset + 5]);
+		}
+	}
+
+	private void remove(int slot) {
+		int offset = slot * 6;
+		for (int y = this.cellBounds[offset + 1]; y <= this.cellBounds[offset + 4]; y++) {
+			for (int z = this.cellBounds[offset + 2]; z <= this.cellBounds[offset + 5]; z++) {
+				for (int x = this.cellBounds[offset]; x <= this.cellBounds[offset + 3]; x++) {
+					long key = BlockPos.asLong(x, y, z);
+					var cell = this.cells.get(key);
+					if (cell != null && cell.rem(slot) && cell.isEmpty())
+						this.cells.remove(key);
+				}
+			}
+		}
+		this.indexed[slot] = false;
+	}
+
+	/**
+	 * Finds the playing participants whose bounding box intersects the specified box.
+	 *
+	 * @return the amount of found participants
+	 */
+	public int query(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		int count = 0;
+		int stamp = this.nextStamp();
+
+		int cellMaxX = toCell(maxX);
+		int cellMaxY = toCell(maxY);
+		int cellMaxZ = toCell(maxZ);
+
+		for (int y = toCell(minY); y <= cellMaxY; y++) {
+			for (int z = toCell(minZ); z <= cellMaxZ; z++) {
+				for (int x = toCell(minX); x <= cellMaxX; x++) {
+					var cell = this.cells.get(BlockPos.asLong(x, y, z));
+					if (cell == null)
+						continue;
+
+					for (int i = 0; i < cell.size(); i++) {
+						int slot = cell.getInt(i);
+						if (this.stamps[slot] == stamp)
+							continue;
+						this.stamps[slot] = stamp;
+
+						var participant = this.slots[slot];
+						if (participant.getPlayer().getBoundingBox().intersects(minX, minY, minZ, maxX, maxY, maxZ)) {
+							this.results[count] = participant;
+							this.resultDistances[count] = 0.0;
+							count++;
+						}
+					}
+				}
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Finds the playing participants hit by a ray, walking only the cells crossed by the ray.
+	 *
+	 * @param source the player that is casting the ray, it is never hit
+	 * @param originX the X coordinate of the ray origin
+	 * @param originY the Y coordinate of the ray origin
+	 * @param originZ the Z coordinate of the ray origin
+	 * @param directionX the X component of the normalized ray direction
+	 * @param directionY the Y component of the normalized ray direction
+	 * @param directionZ the Z component of the normalized ray direction
+	 * @param range the maximum range
+	 * @param margin the margin added around each bounding box, at most {@link #CELL_MARGIN}
+	 * @return the amount of hit participants
+	 */
+	public int raycast(@Nullable ServerPlayerEntity source,
+	                   double originX, double originY, double originZ,
+	                   double directionX, double directionY, double directionZ,
+	                   double range, double margin) {
+		int count = 0;
+		int stamp = this.nextStamp();
+		margin = Math.min(margin, CELL_MARGIN);
+
+		double cellOriginX = originX / CELL_SIZE;
+		double cellOriginY = originY / CELL_SIZE;
+		double cellOriginZ = originZ / CELL_SIZE;
+		double cellRange = range / CELL_SIZE;
+
+		int x = MathHelper.floor(cellOriginX);
+		int y = MathHelper.floor(cellOriginY);
+		int z = MathHelper.floor(cellOriginZ);
+
+		int stepX = directionX > 0.0 ? 1 : (directionX < 0.0 ? -1 : 0);
+		int stepY = directionY > 0.0 ? 1 : (directionY < 0.0 ? -1 : 0);
+		int stepZ = directionZ > 0.0 ? 1 : (directionZ < 0.0 ? -1 : 0);
+
+		double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / directionX);
+		double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / directionY);
+		double deltaZ = stepZ == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / directionZ);
+
+		double maxX = stepX == 0 ? Double.POSITIVE_INFINITY : ((stepX > 0 ? x + 1 : x) - cellOriginX) / directionX;
+		double maxY = stepY == 0 ? Double.POSITIVE_INFINITY : ((stepY > 0 ? y + 1 : y) - cellOriginY) / directionY;
+		double maxZ = stepZ == 0 ? Double.POSITIVE_INFINITY : ((stepZ > 0 ? z + 1 : z) - cellOriginZ) / directionZ;
+
+		double entry = 0.0;
+		while (entry <= cellRange) {
+			var cell = this.cells.get(BlockPos.asLong(x, y, z));
+			if (cell != null) {
+				for (int i = 0; i < cell.size(); i++) {
+					int slot = cell.getInt(i);
+					if (this.stamps[slot] == stamp)
+						continue;
+					this.stamps[slot] = stamp;
+
+					var participant = this.slots[slot];
+					var player = participant.getPlayer();
+					if (player == source)
+						continue;
+
+					var box = player.getBoundingBox();
+					double distance = RayUtils.intersectBox(originX, originY, originZ, directionX, directionY, directionZ, range,
+							box.minX - margin, box.minY - margin, box.minZ - margin,
+							box.maxX + margin, box.maxY + margin, box.maxZ + margin);
+					if (distance >= 0.0) {
+						this.results[count] = participant;
+						this.resultDistances[count] = distance;
+						count++;
+					}
+				}
+			}
+
+			if (maxX < maxY && maxX < maxZ) {
+				x += stepX;
+				entry = maxX;
+				maxX += deltaX;
+			} else if (maxY < maxZ) {
+				y += stepY;
+				entry = maxY;
+				maxY += deltaY;
+			} else {
+				z += stepZ;
+				entry = maxZ;
+				maxZ += deltaZ;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns a participant found by the last query.
+	 *
+	 * @param result the result index
+	 * @return the participant
+	 */
+	public QuakecraftPlayer getResult(int result) {
+		return this.results[result];
+	}
+
+	/**
+	 * Returns the distance along the ray of a participant found by the last ray query.
+	 *
+	 * @param result the result index
+	 * @return the distance
+	 */
+	public double getResultDistance(int result) {
+		return this.resultDistances[result];
+	}
+
+	private int nextStamp() {
+		if (++this.stamp == 0) {
+			Arrays.fill(this.stamps, 0);
+			this.stamp = 1;
+		}
+		return this.stamp;
+	}
+
+	/**
+	 * Returns the cell coordinate containing the specified block coordinate.
+	 *
+	 * @param coordinate the coordinate
+	 * @return the cell coordinate
+	 */
+	public static int toCell(double coordinate) {
+		return MathHelper.floor(coordinate) >> CELL_SHIFT;
+	}
+
+	/**
+	 * Represents a listener of participants crossing cell borders.
+	 */
+	public interface CellListener {
+		/**
+		 * Called when a participant starts being indexed or moves to different cells.
+		 * <p>
+		 * The cell range covers the bounding box of the participant expanded by at least {@link #CELL_MARGIN}.
+		 *
+		 * @param participant the participant
+		 */
+		void onCellsChanged(QuakecraftPlayer participant, int minX, int minY, int minZ, int maxX, int maxY, int maxZ);
+
+		/**
+		 * Called when a participant stops being indexed, as it stopped playing.
+		 *
+		 * @param participant the participant
+		 */
+		void onRemoved(QuakecraftPlayer participant);
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game;
+
+import dev.lambdaurora.quakecraft.util.RayUtils;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Represents the recent positions of the participants of a game, used to rewind hitscan targets.
+ * <p>
+ * Bounding boxes are stored every tick in preallocated primitive arrays, one ring buffer per participant slot,
+ * so neither recording nor rewinding allocates.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class PlayerPositionHistory {
+	/**
+	 * The amount of recorded ticks.
+	 */
+	public static final int CAPACITY = 20;
+	/**
+	 * The maximum amount of ticks a shot can be rewound by.
+	 */
+	public static final int MAX_REWIND_TICKS = 10;
+	private static final int STRIDE = 6;
+
+	private final QuakecraftPlayer[] slots;
+	private final double[] boxes;
+	private final boolean[] present;
+	private final ServerPlayerEntity[] hitPlayers;
+	private final double[] hitDistances;
+	private int head = -1;
+	private int frames = 0;
+
+	public PlayerPositionHistory(Collection<QuakecraftPlayer> participants) {
+		this.slots = new QuakecraftPlayer[participants.size()];
+		for (var participant : participants) {
+			this.slots[participant.index] = participant;
+		}
+
+		this.boxes = new double[this.slots.length * CAPACITY * STRIDE];
+		this.present = new boolean[this.slots.length * CAPACITY];
+		this.hitPlayers = new ServerPlayerEntity[this.slots.length];
+		this.hitDistances = new double[this.slots.length];
+	}
+
+	/**
+	 * Records the current bounding boxes of every participant.
+	 */
+	public void record() {
+		this.head = (this.head + 1) % CAPACITY;
+		if (this.frames < CAPACITY)
+			this.frames++;
+
+		for (int slot = 0; slot < this.slots.length; slot++) {
+			var participant = this.slots[slot];
+			int frame = slot * CAPACITY + this.head;
+
+			if (!participant.isPlaying()) {
+				this.present[frame] = false;
+				continue;
+			}
+
+			var box = participant.getPlayer().getBoundingBox();
+			int offset = frame * STRIDE;
+			this.boxes[offset] = box.minX;
+			this.boxes[offset + 1] = box.minY;
+			this.boxes[offset + 2] = box.minZ;
+			this.boxes[offset + 3] = box.maxX;
+			this.boxes[offset + 4] = box.maxY;
+			this.boxes[offset + 5] = box.maxZ;
+			this.present[frame] = true;
+		}
+	}
+
+	/**
+	 * Forgets the recorded positions of the specified participant, called when it is teleported.
+	 * <p>
+	 * Rewound shots can then neither hit the participant where it was before the teleport,
+	 * nor somewhere between its old and new positions.
+	 *
+	 * @param participant the participant
+	 */
+	public void clear(QuakecraftPlayer participant) {
+		int start = participant.index * CAPACITY;
+		Arrays.fill(this.present, start, start + CAPACITY, false);
+	}
+
+	/**
+	 * Casts a ray against the participant bounding boxes as they were the given amount of ticks ago.
+	 * <p>
+	 * Fractional ticks are interpolated between the two surrounding recorded ticks.
+	 * Only the participants currently playing can be hit.
+	 * The hits can be retrieved with {@link #getHitPlayer(int)} and {@link #getHitDistance(int)} until the next cast.
+	 *
+	 * @param source the player that is casting the ray, it is never hit
+	 * @param originX the X coordinate of the ray origin
+	 * @param originY the Y coordinate of the ray origin
+	 * @param originZ the Z coordinate of the ray origin
+	 * @param directionX the X component of the normalized ray direction
+	 * @param directionY the Y component of the normalized ray direction
+	 * @param directionZ the Z component of the normalized ray direction
+	 * @param range the maximum range
+	 * @param margin the margin added around each bounding box
+	 * @param rewindTicks the amount of ticks to rewind by
+	 * @return the amount of hit participants
+	 */
+	public int raycast(@Nullable ServerPlayerEntity source,
+	                   double originX, double originY, double originZ,
+	                   double directionX, double directionY, double directionZ,
+	                   double range, double margin, double rewindTicks) {
+		int hits = 0;
+		if (this.frames == 0)
+			return hits;
+
+		double rewind = Math.max(0.0, Math.min(rewindTicks, Math.min(MAX_REWIND_TICKS, this.frames - 1)));
+		int newerAge = (int) rewind;
+		int olderAge = Math.min(newerAge + 1, this.frames - 1);
+		double delta = rewind - newerAge;
+		int newer = Math.floorMod(this.head - newerAge, CAPACITY);
+		int older = Math.floorMod(this.head - olderAge, CAPACITY);
+
+		for (int slot = 0; slot < this.slots.length; slot++) {
+			var participant = this.slots[slot];
+			var player = participant.getPlayer();
+			if (player == source || !participant.isPlaying())
+				continue;
+
+			int newerFrame = slot * CAPACITY + newer;
+			int olderFrame = slot * CAPACITY + older;
+			boolean hasNewer = this.present[newerFrame];
+			boolean hasOlder = this.present[olderFrame];
+
+			if (!hasNewer && !hasOlder)
+				continue;
+
+			int a = (hasNewer ? newerFrame : olderFrame) * STRIDE;
+			int b = (hasOlder ? olderFrame : newerFrame) * STRIDE;
+
+			double distance = RayUtils.intersectBox(originX, originY, originZ, directionX, directionY, directionZ, range,
+					lerp(delta, this.boxes[a], this.boxes[b]) - margin,
+					lerp(delta, this.boxes[a + 1], this.boxes[b + 1]) - margin,
+					lerp(delta, this.boxes[a + 2], this.boxes[b + 2]) - margin,
+					lerp(delta, this.boxes[a + 3], this.boxes[b + 3]) + margin,
+					lerp(delta, this.boxes[a + 4], this.boxes[b + 4]) + margin,
+					lerp(delta, this.boxes[a + 5], this.boxes[b + 5]) + margin);
+
+			if (distance >= 0.0) {
+				this.hitPlayers[hits] = player;
+				this.hitDistances[hits] = distance;
+				hits++;
+			}
+		}
+
+		return hits;
+	}
+
+	/**
+	 * Returns the player hit by the last cast.
+	 *
+	 * @param hit the hit index
+	 * @return the hit player
+	 */
+	public ServerPlayerEntity getHitPlayer(int hit) {
+		return this.hitPlayers[hit];
+	}
+
+	/**
+	 * Returns the distance along the ray of a hit of the last cast.
+	 *
+	 * @param hit the hit index
+	 * @return the hit distance
+	 */
+	public double getHitDistance(int hit) {
+		return this.hitDistances[hit];
+	}
+
+	/**
+	 * Returns the amount of ticks the shots of the specified player should be rewound by.
+	 * <p>
+	 * What the shooter sees is late by a full round-trip: the target positions travel to the client,
+	 * and the shot travels back to the server.
+	 *
+	 * @param player the shooter
+	 * @return the rewind ticks
+	 */
+	public static double getRewindTicks(ServerPlayerEntity player) {
+		return Math.min(MAX_REWIND_TICKS, player.networkHandler.getLatency() / 50.0);
+	}
+
+	private static double lerp(double delta, double start, double end) {
+		return start + delta * (end - start);
+	}
+}
@@ -21,17 +21,21 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.lambdaurora.quakecraft.game.map.MapConfig;
+import dev.lambdaurora.quakecraft.weapon.Weapons;
+import net.minecraft.util.Identifier;
 import xyz.nucleoid.plasmid.api.game.common.config.WaitingLobbyConfig;
 import xyz.nucleoid.plasmid.api.game.common.team.GameTeam;
 
 import java.util.List;
 
 public record QuakecraftConfig(MapConfig map, WaitingLobbyConfig players,
-                               List<GameTeam> teams, int time) {
+                               List<GameTeam> teams, int time, boolean lagCompensation, List<Identifier> loadout) {
 	public static final MapCodec<QuakecraftConfig> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
 			MapConfig.CODEC.fieldOf("map").forGetter(QuakecraftConfig::map),
 			WaitingLobbyConfig.CODEC.fieldOf("players").forGetter(QuakecraftConfig::players),
 			GameTeam.CODEC.listOf().fieldOf("teams").forGetter(QuakecraftConfig::teams),
-			Codec.INT.optionalFieldOf("time", 20 * 60 * 20).forGetter(QuakecraftConfig::time)
+			Codec.INT.optionalFieldOf("time", 20 * 60 * 20).forGetter(QuakecraftConfig::time),
+			Codec.BOOL.optionalFieldOf("lag_compensation", true).forGetter(QuakecraftConfig::lagCompensation),
+			Identifier.CODEC.listOf().optionalFieldOf("loadout", Weapons.DEFAULT_LOADOUT).forGetter(QuakecraftConfig::loadout)
 	).apply(instance, QuakecraftConfig::new));
 }
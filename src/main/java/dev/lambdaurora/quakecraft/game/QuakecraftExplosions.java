@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
+import net.minecraft.network.packet.s2c.play.ExplosionS2CPacket;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents the explosions of rockets and grenades in a game.
+ * <p>
+ * Explosions never break blocks and only kill or push participants, so instead of the vanilla ray grid and exposure sampling,
+ * the participants in the radius are looked up in the {@link ParticipantIndex} and their exposure is sampled
+ * with a few rays against the {@linkplain dev.lambdaurora.quakecraft.game.map.MapCollision map collisions}.
+ * The cost of an explosion thus scales with the participants in its radius.
+ * <p>
+ * Explosions are queued and resolved together at the end of the server tick.
+ * Explosions of the same attacker at the same spot, like two colliding rockets, are merged into one.
+ * A participant caught in several explosions is pushed by all of them but killed once,
+ * by the closest explosion with an attacker, so multi-kills don't depend on the detonation order.
+ * Kills at equal distances go to the attacker with the lowest participant index.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class QuakecraftExplosions {
+	/**
+	 * The distance within which players receive the explosion packet, like vanilla.
+	 */
+	private static final double VIEW_DISTANCE = 64.0;
+	/**
+	 * The distance under which queued explosions of the same attacker are merged.
+	 */
+	private static final double MERGE_DISTANCE = 1.0;
+
+	private final QuakecraftLogic game;
+
+	/* Queued explosions */
+	private final List<@Nullable QuakecraftPlayer> attackers = new ReferenceArrayList<>();
+	private final DoubleArrayList centers = new DoubleArrayList();
+	private final FloatArrayList powers = new FloatArrayList();
+
+	/* Per-participant results, indexed by participant index */
+	private final QuakecraftPlayer[] touched;
+	private final int[] killers;
+	private final double[] killerDistances;
+	private final double[] knockbacks;
+	private final IntArrayList touchedIndices = new IntArrayList();
+
+	public QuakecraftExplosions(QuakecraftLogic game) {
+		this.game = game;
+
+		int participants = game.getParticipants().size();
+		this.touched = new QuakecraftPlayer[participants];
+		this.killers = new int[participants];
+		this.killerDistances = new double[participants];
+		this.knockbacks = new double[participants * 3];
+	}
+
+	/**
+	 * Queues an explosion which doesn't break blocks.
+	 *
+	 * @param attacker the participant the kills are attributed to, explosions without attacker only push participants
+	 * @param x the X coordinate of the center of the explosion
+	 * @param y the Y coordinate of the center of the explosion
+	 * @param z the Z coordinate of the center of the explosion
+	 * @param power the power of the explosion, the radius is twice the power like vanilla
+	 */
+	public void explode(@Nullable QuakecraftPlayer attacker, double x, double y, double z, float power) {
+		for (int i = 0; i < this.powers.size(); i++) {
+			// Explosions of different attackers are resolved separately, the kills are then given to the closest one.
+			if (this.attackers.get(i) != attacker)
+				continue;
+
+			double deltaX = this.centers.getDouble(i * 3) - x;
+			double deltaY = this.centers.getDouble(i * 3 + 1) - y;
+			double deltaZ = this.centers.getDouble(i * 3 + 2) - z;
+
+			if (deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ <= MERGE_DISTANCE * MERGE_DISTANCE) {
+				if (power > this.powers.getFloat(i))
+					this.powers.set(i, power);
+				return;
+			}
+		}
+
+		this.attackers.add(attacker);
+		this.centers.add(x);
+		this.centers.add(y);
+		this.centers.add(z);
+		this.powers.add(power);
+	}
+
+	/**
+	 * Resolves the queued explosions, called at the end of the server tick.
+	 */
+	public void flush() {
+		if (this.powers.isEmpty())
+			return;
+
+		for (int explosion = 0; explosion < this.powers.size(); explosion++) {
+			this.resolve(explosion);
+		}
+
+		this.sendPackets();
+
+		// Kills respawn players, which queries the participant index, so they are applied once all explosions are resolved.
+		Arrays.sort(this.touchedIndices.elements(), 0, this.touchedIndices.size());
+		for (int i = 0; i < this.touchedIndices.size(); i++) {
+			int index = this.touchedIndices.getInt(i);
+			var victim = this.touched[index].getPlayer();
+			int killer = this.killers[index];
+
+			if (victim != null && killer != -1) {
+				var attacker = this.attackers.get(killer).getPlayer();
+				if (attacker != null)
+					this.game.kill(victim, attacker);
+			}
+
+			this.touched[index] = null;
+		}
+
+		this.clear();
+	}
+
+	/**
+	 * Drops the queued explosions.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.touchedIndices.size(); i++) {
+			this.touched[this.touchedIndices.getInt(i)] = null;
+		}
+		this.touchedIndices.clear();
+		this.attackers.clear();
+		this.centers.clear();
+		this.powers.clear();
+	}
+
+	private void resolve(int explosion) {
+		double x = this.centers.getDouble(explosion * 3);
+		double y = this.centers.getDouble(explosion * 3 + 1);
+		double z = this.centers.getDouble(explosion * 3 + 2);
+		double radius = this.powers.getFloat(explosion) * 2.0;
+		var attacker = this.attackers.get(explosion);
+		var attackerPlayer = attacker == null ? null : attacker.getPlayer();
+
+		var index = this.game.getParticipantIndex();
+		int count = index.query(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius);
+
+		for (int i = 0; i < count; i++) {
+			var participant = index.getResult(i);
+			var player = participant.getPlayer();
+
+			double distance = Math.sqrt(player.squaredDistanceTo(x, y, z)) / radius;
+			if (distance > 1.0)
+				continue;
+
+			double exposure = this.getExposure(player, x, y, z);
+			if (exposure <= 0.0)
+				continue;
+
+			int slot = participant.index;
+			if (this.touched[slot] == null) {
+				this.touched[slot] = participant;
+				this.touchedIndices.add(slot);
+				this.killers[slot] = -1;
+				this.knockbacks[slot * 3] = 0.0;
+				this.knockbacks[slot * 3 + 1] = 0.0;
+				this.knockbacks[slot * 3 + 2] = 0.0;
+			}
+
+			if (attackerPlayer != null && attackerPlayer != player && this.isCloserKiller(slot, attacker, distance)) {
+				this.killers[slot] = explosion;
+				this.killerDistances[slot] = distance;
+			}
+
+			double deltaX = player.getX() - x;
+			double deltaY = player.getEyeY() - y;
+			double deltaZ = player.getZ() - z;
+			double length = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+			if (length == 0.0)
+				continue;
+
+			double strength = (1.0 - distance) * exposure * (1.0 - player.getAttributeValue(EntityAttributes.EXPLOSION_KNOCKBACK_RESISTANCE));
+			this.knockbacks[slot * 3] += deltaX / length * strength;
+			this.knockbacks[slot * 3 + 1] += deltaY / length * strength;
+			this.knockbacks[slot * 3 + 2] += deltaZ / length * strength;
+		}
+	}
+
+	/**
+	 * Returns whether the specified attacker should get the kill of a participant over its current killer.
+	 */
+	private boolean isCloserKiller(int slot, QuakecraftPlayer attacker, double distance) {
+		int killer = this.killers[slot];
+		if (killer == -1 || distance < this.killerDistances[slot])
+			return true;
+		return distance == this.killerDistances[slot] && attacker.index < this.attackers.get(killer).index;
+	}
+
+	/**
+	 * Returns the fraction of the feet, body and eyes of a player visible from the center of an explosion.
+	 */
+	private double getExposure(ServerPlayerEntity player, double x, double y, double z) {
+		double feetY = player.getY() + 0.1;
+		double eyeY = player.getEyeY();
+
+		int visible = 0;
+		if (this.isVisible(x, y, z, player.getX(), feetY, player.getZ()))
+			visible++;
+		if (this.isVisible(x, y, z, player.getX(), (feetY + eyeY) * 0.5, player.getZ()))
+			visible++;
+		if (this.isVisible(x, y, z, player.getX(), eyeY, player.getZ()))
+			visible++;
+
+		return visible / 3.0;
+	}
+
+	private boolean isVisible(double fromX, double fromY, double fromZ, double toX, double toY, double toZ) {
+		double deltaX = toX - fromX;
+		double deltaY = toY - fromY;
+		double deltaZ = toZ - fromZ;
+		double length = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+		if (length < 1.0E-4)
+			return true;
+
+		return this.game.map().collision().raycast(fromX, fromY, fromZ, deltaX / length, deltaY / length, deltaZ / length, length) < 0.0;
+	}
+
+	/**
+	 * Applies the knockbacks and sends the explosions to the nearby players,
+	 * the knockback of a player is sent along the first explosion they receive.
+	 */
+	private void sendPackets() {
+		var shared = new ExplosionS2CPacket[this.powers.size()];
+
+		for (var viewer : this.game.getSpace().getPlayers()) {
+			var participant = this.game.getParticipant(viewer);
+			Optional<Vec3d> knockback = Optional.empty();
+
+			if (participant != null && this.touched[participant.index] != null) {
+				int slot = participant.index * 3;
+				// Like vanilla, spectators and flying creative players are not pushed.
+				if (!viewer.isSpectator() && !(viewer.isCreative() && viewer.getAbilities().flying)) {
+					var velocity = new Vec3d(this.knockbacks[slot], this.knockbacks[slot + 1], this.knockbacks[slot + 2]);
+					viewer.setVelocity(viewer.getVelocity().add(velocity));
+					knockback = Optional.of(velocity);
+				}
+			}
+
+			var packets = new ArrayList<Packet<? super ClientPlayPacketListener>>();
+			for (int explosion = 0; explosion < this.powers.size(); explosion++) {
+				double x = this.centers.getDouble(explosion * 3);
+				double y = this.centers.getDouble(explosion * 3 + 1);
+				double z = this.centers.getDouble(explosion * 3 + 2);
+				if (viewer.squaredDistanceTo(x, y, z) >= VIEW_DISTANCE * VIEW_DISTANCE)
+					continue;
+
+				if (knockback.isPresent()) {
+					packets.add(new ExplosionS2CPacket(new Vec3d(x, y, z), knockback, ParticleTypes.EXPLOSION, SoundEvents.ENTITY_GENERIC_EXPLODE));
+					knockback = Optional.empty();
+				} else {
+					if (shared[explosion] == null) {
+						shared[explosion] = new ExplosionS2CPacket(new Vec3d(x, y, z), Optional.empty(),
+								ParticleTypes.EXPLOSION, SoundEvents.ENTITY_GENERIC_EXPLODE);
+					}
+					packets.add(shared[explosion]);
+				}
+			}
+
+			if (packets.size() == 1) {
+				viewer.networkHandler.sendPacket(packets.get(0));
+			} else if (!packets.isEmpty()) {
+				viewer.networkHandler.sendPacket(new BundleS2CPacket(packets));
+			}
+		}
+	}
+}
@@ -20,14 +20,12 @@ package dev.lambdaurora.quakecraft.game;
 import com.google.common.collect.Multimap;
 import dev.lambdaurora.quakecraft.PlayerAction;
 import dev.lambdaurora.quakecraft.Quakecraft;
-import dev.lambdaurora.quakecraft.entity.GrenadeEntity;
-import dev.lambdaurora.quakecraft.entity.RocketEntity;
+import dev.lambdaurora.quakecraft.QuakecraftConstants;
 import dev.lambdaurora.quakecraft.game.map.QuakecraftMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.player.ItemCooldownManager;
-import net.minecraft.entity.projectile.FireworkRocketEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.packet.s2c.play.PlaySoundS2CPacket;
 import net.minecraft.registry.Registries;
@@ -69,7 +67,7 @@ import java.util.Set;
  * Represents the Quakecraft running game.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class QuakecraftGame extends QuakecraftLogic {
@@ -120,6 +118,7 @@ public class QuakecraftGame extends QuakecraftLogic {
 
 			game.listen(GameActivityEvents.ENABLE, active::onOpen);
 			game.listen(GameActivityEvents.DISABLE, active::onClose);
+			game.listen(GameActivityEvents.DESTROY, reason -> active.onClose());
 
 			game.listen(GamePlayerEvents.OFFER, JoinOffer::acceptSpectators);
 			game.listen(GamePlayerEvents.ACCEPT, offer -> offer.teleport(active.world(), active.map().waitingSpawn.center()));
@@ -143,7 +142,7 @@ public class QuakecraftGame extends QuakecraftLogic {
 		super.onOpen();
 		for (ServerPlayerEntity player : this.getSpace().getPlayers()) {
 			this.spawnParticipant(player);
-			Quakecraft.get().addActivePlayer(player);
+			Quakecraft.get().addActivePlayer(player, this, this.getParticipant(player));
 		}
 		this.running = true;
 		this.scoreboard.update();
@@ -163,7 +162,10 @@ public class QuakecraftGame extends QuakecraftLogic {
 				if (participant.hasLeft())
 					return;
 
+				int kills = participant.getKills();
 				participant.tick(this.getSpace());
+				if (participant.getKills() != kills)
+					this.scoreboard.onKillsChanged(participant);
 				activePlayer[0]++;
 
 				if (participant.hasWon()) {
@@ -195,8 +197,9 @@ public class QuakecraftGame extends QuakecraftLogic {
 						if (mcPlayer == null)
 							return;
 
-						Quakecraft.spawnFirework(this.world(), mcPlayer.getX(), mcPlayer.getY(), mcPlayer.getZ(),
-								new int[]{15435844, 11743532}, false, -1);
+						var random = this.world().getRandom();
+						this.getVisualEffects().launchFirework(QuakecraftConstants.FIREWORK_PALETTE, mcPlayer.getX(), mcPlayer.getY(), mcPlayer.getZ(),
+								false, 10 + random.nextInt(6) + random.nextInt(7));
 					}
 				});
 			}
@@ -209,7 +212,7 @@ public class QuakecraftGame extends QuakecraftLogic {
 	}
 
 	private void assignTeams(Multimap<GameTeam, ServerPlayerEntity> players) {
-		players.forEach((team, player) -> this.getOptParticipant(player).ifPresent(p -> p.setTeam(team)));
+		players.forEach((team, player) -> this.getOptParticipant(player).ifPresent(p -> p.setTeam(team, this.getTeamIndex(team))));
 	}
 
 	private void onWin(QuakecraftPlayer winner) {
@@ -221,35 +224,26 @@ public class QuakecraftGame extends QuakecraftLogic {
 
 	private void addPlayer(ServerPlayerEntity player) {
 		this.spawnParticipant(player);
+		if (this.running)
+			Quakecraft.get().addActivePlayer(player, this, this.getParticipant(player));
 	}
 
 	private void removePlayer(ServerPlayerEntity player) {
 		QuakecraftPlayer participant = this.participants.get(player.getUuid());
 		if (participant != null) {
 			participant.leave();
+			this.scoreboard.onLeft(participant);
 		}
-		Quakecraft.get().removeActivePlayer(player);
+		Quakecraft.get().removeActivePlayer(player, this);
 	}
 
 	private EventResult onDamage(ServerPlayerEntity player, DamageSource source, float amount) {
 		if (source.isIn(DamageTypeTags.IS_EXPLOSION)) {
-			Entity attacker = null;
-			if (source.getSource() instanceof GrenadeEntity grenade) {
-				attacker = grenade.getOwner();
-			} else if (source.getSource() instanceof RocketEntity rocket) {
-				attacker = rocket.getOwner();
-			} else if (source.getSource() instanceof FireworkRocketEntity fireworkRocket) {
-				return EventResult.DENY;
-			} else if (source.getSource() instanceof ServerPlayerEntity) {
-				attacker = source.getSource();
-			}
-
-			if (attacker != null) {
-				if (attacker instanceof ServerPlayerEntity playerAttacker && attacker != player) {
-					player.setAttacker(playerAttacker);
-					playerAttacker.setAttacking(player);
-					player.kill(player.getServerWorld());
-				}
+			var attacker = this.getAttacker(source);
+			var playerAttacker = attacker == null ? null : attacker.getPlayer();
+			if (playerAttacker != null) {
+				if (playerAttacker != player)
+					this.kill(player, playerAttacker);
 				return EventResult.DENY;
 			}
 		}
@@ -345,7 +339,9 @@ public class QuakecraftGame extends QuakecraftLogic {
 		QuakecraftPlayer participant = this.getParticipant(player);
 		if (participant != null) {
 			participant.reset(player);
-			this.spawnLogic.spawnPlayer(player);
+			this.spawnLogic.spawnPlayer(player, participant, this.getParticipants());
+			this.getPositionHistory().clear(participant);
+			this.getParticipantIndex().update(participant);
 		} else if (this.running) {
 			player.changeGameMode(GameMode.SPECTATOR);
 			player.getInventory().clear();
@@ -18,17 +18,26 @@
 package dev.lambdaurora.quakecraft.game;
 
 import dev.lambdaurora.quakecraft.Quakecraft;
+import dev.lambdaurora.quakecraft.block.TeamBarrierBlock;
+import dev.lambdaurora.quakecraft.entity.GrenadeProjectile;
+import dev.lambdaurora.quakecraft.entity.QuakecraftProjectile;
 import dev.lambdaurora.quakecraft.game.environment.QuakecraftDoor;
 import dev.lambdaurora.quakecraft.game.map.QuakecraftMap;
+import dev.lambdaurora.quakecraft.util.BeamRenderer;
+import dev.lambdaurora.quakecraft.util.VisualEffects;
+import dev.lambdaurora.quakecraft.weapon.WeaponTable;
+import dev.lambdaurora.quakecraft.weapon.Weapons;
+import dev.lambdaurora.quakecraft.weapon.inventory.WeaponManager;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.world.GameMode;
 import org.jetbrains.annotations.Nullable;
 import xyz.nucleoid.plasmid.api.game.GameSpace;
 import xyz.nucleoid.plasmid.api.game.common.team.GameTeam;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -38,7 +47,7 @@ import java.util.UUID;
  * Represents an instance of Quakecraft.
  *
  * @author LambdAurora
- * @version 1.7.3
+ * @version 1.8.0
  * @since 1.5.0
  */
 public abstract class QuakecraftLogic {
@@ -46,7 +55,13 @@ public abstract class QuakecraftLogic {
 	private final ServerWorld world;
 	private final QuakecraftConfig config;
 	private final QuakecraftMap map;
+	private final WeaponTable weapons;
 	protected final Object2ObjectMap<UUID, QuakecraftPlayer> participants = new Object2ObjectOpenHashMap<>();
+	private final PlayerPositionHistory positionHistory;
+	private final ParticipantIndex participantIndex;
+	private final VisualEffects visualEffects;
+	private final QuakecraftExplosions explosions;
+	private final List<GrenadeProjectile> grenades = new ArrayList<>();
 	private GameStage stage;
 
 	public QuakecraftLogic(GameSpace space, ServerWorld world, QuakecraftConfig config, QuakecraftMap map) {
@@ -54,11 +69,16 @@ public abstract class QuakecraftLogic {
 		this.world = world;
 		this.config = config;
 		this.map = map;
+		this.weapons = Weapons.getTable();
 		this.stage = GameStage.ROUND_START;
 
 		this.getSpace().getPlayers().forEach(player ->
-				this.participants.put(player.getUuid(), new QuakecraftPlayer(player, null))
+				this.participants.put(player.getUuid(), new QuakecraftPlayer(player, null, this.participants.size(), this.createWeaponManager()))
 		);
+		this.positionHistory = new PlayerPositionHistory(this.participants.values());
+		this.participantIndex = new ParticipantIndex(this.participants.values());
+		this.visualEffects = new VisualEffects(space.getPlayers(), BeamRenderer.DEFAULT_TICK_BUDGET);
+		this.explosions = new QuakecraftExplosions(this);
 	}
 
 	/**
@@ -92,6 +112,19 @@ public abstract class QuakecraftLogic {
 		return null;
 	}
 
+	/**
+	 * Returns the index of the specified team in the teams of this game plus one, as stored in team barriers.
+	 *
+	 * @param team the team
+	 * @return the team index, or {@link TeamBarrierBlock#NO_TEAM} if the team is {@code null} or not part of this game
+	 */
+	public int getTeamIndex(@Nullable GameTeam team) {
+		if (team == null)
+			return TeamBarrierBlock.NO_TEAM;
+		int index = this.getTeams().indexOf(team);
+		return index < 0 || index >= TeamBarrierBlock.MAX_TEAMS ? TeamBarrierBlock.NO_TEAM : index + 1;
+	}
+
 	public QuakecraftMap map() {
 		return this.map;
 	}
@@ -102,26 +135,126 @@ public abstract class QuakecraftLogic {
 
 	protected void onClose() {
 		Quakecraft.get().removeActiveGame(this);
+		this.grenades.forEach(GrenadeProjectile::discard);
+		this.grenades.clear();
+		this.explosions.clear();
+
+		long sent = this.visualEffects.getSentPackets();
+		long culled = this.visualEffects.getCulledPackets();
+		Quakecraft.get().log("Game closed, sent " + sent + " effect packets and culled " + culled
+				+ " (" + (sent + culled == 0 ? 0 : culled * 100 / (sent + culled)) + "%).");
 	}
 
 	public void tick() {
+		this.positionHistory.record();
+		this.participantIndex.update();
+		this.visualEffects.tick();
+		this.grenades.removeIf(grenade -> !grenade.tick());
 		this.map.tick();
 	}
 
 	/**
-	 * Returns whether a player can open the specified door.
+	 * Throws a grenade, which is then simulated by this game until it detonates.
+	 *
+	 * @param grenade the grenade
+	 * @param player the player throwing the grenade
+	 * @param speed the speed of the grenade
+	 * @param divergence the random divergence of the direction
+	 */
+	public void throwGrenade(GrenadeProjectile grenade, ServerPlayerEntity player, float speed, float divergence) {
+		grenade.launch(player, speed, divergence);
+		this.grenades.add(grenade);
+	}
+
+	/**
+	 * Queues an explosion which doesn't break blocks, resolved at the end of the server tick.
+	 *
+	 * @param attacker the participant the kills are attributed to
+	 * @param x the X coordinate of the center of the explosion
+	 * @param y the Y coordinate of the center of the explosion
+	 * @param z the Z coordinate of the center of the explosion
+	 * @param power the power of the explosion
+	 * @see QuakecraftExplosions#explode(QuakecraftPlayer, double, double, double, float)
+	 */
+	public void explode(@Nullable QuakecraftPlayer attacker, double x, double y, double z, float power) {
+		this.explosions.explode(attacker, x, y, z, power);
+	}
+
+	/**
+	 * Resolves the explosions queued during this tick.
+	 */
+	public void flushExplosions() {
+		this.explosions.flush();
+	}
+
+	/**
+	 * Kills a player, the kill is attributed to the specified attacker.
+	 *
+	 * @param player the killed player
+	 * @param attacker the attacking player
+	 */
+	public void kill(ServerPlayerEntity player, ServerPlayerEntity attacker) {
+		player.setAttacker(attacker);
+		attacker.setAttacking(player);
+		player.kill(player.getServerWorld());
+	}
+
+	/**
+	 * Returns whether a playing participant can open the specified door.
 	 *
 	 * @param door the door
-	 * @param player the player
-	 * @return {@code true} if the player can open the door, else {@code false}
+	 * @param participant the participant
+	 * @return {@code true} if the participant can open the door, else {@code false}
 	 */
-	public boolean canOpenDoor(QuakecraftDoor door, ServerPlayerEntity player) {
-		if (!this.getSpace().getPlayers().contains(player) || player.interactionManager.getGameMode() == GameMode.SPECTATOR)
-			return false;
-		GameTeam team = this.getOptParticipant(player).map(QuakecraftPlayer::getTeam).orElse(null);
+	public boolean canOpenDoor(QuakecraftDoor door, QuakecraftPlayer participant) {
+		GameTeam team = participant.getTeam();
 		return door.getTeam() == null || team == null || team == door.getTeam();
 	}
 
+	/**
+	 * Returns the weapon table this game started with, which stays the same if weapons are reloaded during the game.
+	 *
+	 * @return the weapon table
+	 */
+	public WeaponTable getWeapons() {
+		return this.weapons;
+	}
+
+	/**
+	 * Creates a weapon manager holding the weapons of the configured loadout.
+	 *
+	 * @return the weapon manager
+	 */
+	public WeaponManager createWeaponManager() {
+		var manager = new WeaponManager(this.weapons);
+		for (var id : this.config.loadout()) {
+			var weapon = this.weapons.get(id);
+			if (weapon == null) {
+				Quakecraft.get().logger.warn("Unknown weapon {} in the loadout.", id);
+				continue;
+			}
+			manager.add(weapon);
+		}
+		return manager;
+	}
+
+	/**
+	 * Returns the participant to attribute the specified damage to.
+	 * <p>
+	 * Damage dealt by a {@linkplain QuakecraftProjectile Quakecraft projectile} is attributed to its shooter,
+	 * otherwise it is attributed to the participant of the attacking player.
+	 *
+	 * @param source the damage source
+	 * @return the attacking participant, or {@code null} if the damage does not come from a participant
+	 */
+	public @Nullable QuakecraftPlayer getAttacker(DamageSource source) {
+		if (source.getSource() instanceof QuakecraftProjectile projectile)
+			return projectile.getShooter();
+		if (source.getAttacker() instanceof ServerPlayerEntity player)
+			return this.getParticipant(player);
+		return null;
+	}
+
 	public @Nullable QuakecraftPlayer getParticipant(ServerPlayerEntity player) {
 		return this.participants.get(player.getUuid());
 	}
@@ -133,4 +266,31 @@ public abstract class QuakecraftLogic {
 	public Collection<QuakecraftPlayer> getParticipants() {
 		return this.participants.values();
 	}
+
+	/**
+	 * Returns the recent positions of the participants, used for lag compensation.
+	 *
+	 * @return the position history
+	 */
+	public PlayerPositionHistory getPositionHistory() {
+		return this.positionHistory;
+	}
+
+	/**
+	 * Returns the spatial index of the playing participants.
+	 *
+	 * @return the participant index
+	 */
+	public ParticipantIndex getParticipantIndex() {
+		return this.participantIndex;
+	}
+
+	/**
+	 * Returns the visual effects dispatcher of this game, which holds its per-tick particle budget.
+	 *
+	 * @return the visual effects dispatcher
+	 */
+	public VisualEffects getVisualEffects() {
+		return this.visualEffects;
+	}
 }
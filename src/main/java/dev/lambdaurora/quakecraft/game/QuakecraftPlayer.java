@@ -20,7 +20,9 @@ package dev.lambdaurora.quakecraft.game;
 import dev.lambdaurora.quakecraft.PlayerAction;
 import dev.lambdaurora.quakecraft.Quakecraft;
 import dev.lambdaurora.quakecraft.QuakecraftConstants;
-import dev.lambdaurora.quakecraft.weapon.Weapons;
+import dev.lambdaurora.quakecraft.block.TeamBarrierBlock;
+import dev.lambdaurora.quakecraft.util.VisualEffects;
+import dev.lambdaurora.quakecraft.weapon.Weapon;
 import dev.lambdaurora.quakecraft.weapon.inventory.WeaponManager;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
@@ -42,30 +44,41 @@ import java.util.UUID;
  * Represents a Quakecraft player.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class QuakecraftPlayer implements Comparable<QuakecraftPlayer> {
+	/**
+	 * The interval at which an unchanged cooldown bar is resent, shorter than the action bar display time.
+	 */
+	private static final int COOLDOWN_BAR_REFRESH_TICKS = 40;
+
 	private final ServerWorld world;
 	public final UUID uuid;
 	public final String name;
-	private final WeaponManager weapons = new WeaponManager();
+	/**
+	 * The dense index of this participant in its game.
+	 */
+	public final int index;
+	private final WeaponManager weapons;
 	private ServerPlayerEntity player;
 	private long respawnTime = -1;
 	private PlayerAction lastAction = PlayerAction.NONE;
 	private int kills = 0;
 	private int killsWithinATick = 0;
 	private GameTeam team;
+	private int teamIndex = TeamBarrierBlock.NO_TEAM;
 
 	private boolean left = false;
+	private int displayedCooldownStep = -1;
+	private int cooldownBarAge = 0;
 
-	public QuakecraftPlayer(ServerPlayerEntity player, GameTeam team) {
+	public QuakecraftPlayer(ServerPlayerEntity player, GameTeam team, int index, WeaponManager weapons) {
 		this.world = player.getServerWorld();
 		this.uuid = player.getUuid();
 		this.name = player.getNameForScoreboard();
-		this.weapons.add(Weapons.ADVANCED_SHOOTER);
-		this.weapons.add(Weapons.ROCKET_LAUNCHER);
-		this.weapons.add(Weapons.GRENADE_LAUNCHER);
+		this.index = index;
+		this.weapons = weapons;
 		this.player = player;
 		this.team = team;
 	}
@@ -86,18 +99,39 @@ public class QuakecraftPlayer implements Comparable<QuakecraftPlayer> {
 		return this.team;
 	}
 
+	/**
+	 * Returns the index of the team of this participant in the teams of the game plus one.
+	 *
+	 * @return the team index, or {@link TeamBarrierBlock#NO_TEAM} if this participant has no team
+	 * @see QuakecraftLogic#getTeamIndex(GameTeam)
+	 */
+	public int getTeamIndex() {
+		return this.teamIndex;
+	}
+
 	public boolean hasTeam() {
 		return this.team != null;
 	}
 
-	public void setTeam(@Nullable GameTeam team) {
+	public void setTeam(@Nullable GameTeam team, int teamIndex) {
 		this.team = team;
+		this.teamIndex = teamIndex;
 	}
 
 	public boolean hasLeft() {
 		return this.left;
 	}
 
+	/**
+	 * Returns whether this participant is currently playing: it has not left, is alive and is not spectating.
+	 *
+	 * @return {@code true} if this participant is playing, else {@code false}
+	 */
+	public boolean isPlaying() {
+		return !this.left && this.player != null && this.player.isAlive()
+				&& this.player.interactionManager.getGameMode() != GameMode.SPECTATOR;
+	}
+
 	public void leave() {
 		this.left = true;
 
@@ -148,20 +182,32 @@ public class QuakecraftPlayer implements Comparable<QuakecraftPlayer> {
 		this.killsWithinATick = 0;
 
 		this.weapons.tick();
+		this.tickCooldownBar();
+
+		//this.syncInventory();
+	}
+
+	/**
+	 * Sends the secondary cooldown bar of the held weapon to the action bar, only when its displayed step changes.
+	 * <p>
+	 * The bar is also resent before it fades out on the client.
+	 */
+	private void tickCooldownBar() {
 		var heldWeapon = this.weapons.get(this.player.getMainHandStack());
-		if (heldWeapon != null) {
-			int secondaryCooldown = this.weapons.getSecondaryCooldown(heldWeapon);
-			if (secondaryCooldown > 0) {
-				var bar = "▊▊▊▊▊▊▊▊▊▊";
-				int progress = (int) (secondaryCooldown / (double) heldWeapon.secondaryCooldown * bar.length());
-				this.player.sendMessage(Text.literal("[").formatted(Formatting.GRAY)
-						.append(Text.literal(bar.substring(progress)).formatted(Formatting.GREEN))
-						.append(Text.literal(bar.substring(0, progress)).formatted(Formatting.RED))
-						.append("]"), true);
-			}
+		int secondaryCooldown = heldWeapon == null ? 0 : this.weapons.getSecondaryCooldown(heldWeapon);
+
+		if (secondaryCooldown <= 0) {
+			this.displayedCooldownStep = -1;
+			return;
 		}
 
-		//this.syncInventory();
+		int step = heldWeapon.getSecondaryCooldownStep(secondaryCooldown);
+		this.cooldownBarAge++;
+		if (step != this.displayedCooldownStep || this.cooldownBarAge >= COOLDOWN_BAR_REFRESH_TICKS) {
+			this.player.sendMessage(Weapon.getCooldownBar(step), true);
+			this.displayedCooldownStep = step;
+			this.cooldownBarAge = 0;
+		}
 	}
 
 	/**
@@ -180,7 +226,8 @@ public class QuakecraftPlayer implements Comparable<QuakecraftPlayer> {
 
 	public void onDeath() {
 		this.player.playSound(SoundEvents.ENTITY_BLAZE_DEATH, 2.f, 1.f);
-		Quakecraft.spawnFirework(this.world, this.player.getX(), this.player.getY(), this.player.getZ(), new int[]{15435844, 11743532}, true, 0);
+		VisualEffects.of(this.world).launchFirework(QuakecraftConstants.FIREWORK_PALETTE,
+				this.player.getX(), this.player.getY(), this.player.getZ(), true, 0);
 	}
 
 	public void startRespawn(long time) {
@@ -23,39 +23,91 @@ import org.jetbrains.annotations.NotNull;
 import xyz.nucleoid.plasmid.api.game.common.GlobalWidgets;
 import xyz.nucleoid.plasmid.api.game.common.widget.SidebarWidget;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Represents the Quakecraft scoreboard.
+ * <p>
+ * The participants are kept in a leaderboard ordered by kills, which is updated when kills change.
+ * The sidebar is only rebuilt when a visible line changes: the displayed second, or the top of the leaderboard.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class QuakecraftScoreboard {
+	private static final int MAX_LINES = 15;
+
 	private final QuakecraftGame game;
 	private final SidebarWidget sidebar;
+	private final List<QuakecraftPlayer> leaderboard;
+	private int displayedSeconds = -1;
+	private Text timeLine;
+	private boolean dirty = true;
 
 	public QuakecraftScoreboard(@NotNull QuakecraftGame game, GlobalWidgets widgets) {
 		this.game = game;
 		this.sidebar = widgets.addSidebar(Text.literal("Quakecraft").formatted(Formatting.GOLD));
+		this.leaderboard = new ArrayList<>(game.getParticipants());
+		this.leaderboard.sort(Comparator.reverseOrder());
+	}
+
+	/**
+	 * Moves the specified participant up the leaderboard after its kills increased.
+	 *
+	 * @param participant the participant
+	 */
+	public void onKillsChanged(@NotNull QuakecraftPlayer participant) {
+		int index = this.leaderboard.indexOf(participant);
+		if (index < 0)
+			return;
+
+		while (index > 0 && this.leaderboard.get(index - 1).getKills() < participant.getKills()) {
+			this.leaderboard.set(index, this.leaderboard.get(index - 1));
+			index--;
+		}
+		this.leaderboard.set(index, participant);
+
+		if (index < MAX_LINES)
+			this.dirty = true;
 	}
 
 	/**
-	 * Updates the scoreboard.
+	 * Marks the specified participant as left on the leaderboard.
+	 *
+	 * @param participant the participant
+	 */
+	public void onLeft(@NotNull QuakecraftPlayer participant) {
+		int index = this.leaderboard.indexOf(participant);
+		if (index >= 0 && index < MAX_LINES)
+			this.dirty = true;
+	}
+
+	/**
+	 * Updates the scoreboard if any of its lines changed.
 	 */
 	public void update() {
+		var seconds = this.game.getTime() / 20;
+		if (seconds != this.displayedSeconds) {
+			this.displayedSeconds = seconds;
+			this.timeLine = Text.literal("Time left: ")
+					.append(Text.literal(String.format("%d:%02d", seconds / 60, seconds % 60)).formatted(Formatting.GREEN));
+			this.dirty = true;
+		}
+
+		if (!this.dirty)
+			return;
+		this.dirty = false;
+
 		this.sidebar.set(content -> {
-			var seconds = this.game.getTime() / 20;
-			content.add(Text.literal("Time left: ")
-					.append(Text.literal(String.format("%d:%02d", seconds / 60, seconds % 60)).formatted(Formatting.GREEN))
-			);
+			content.add(this.timeLine);
 			content.add(Text.empty());
 
-			this.game.getParticipants().stream().sorted(Comparator.reverseOrder()).limit(15).forEach(player -> {
+			for (int i = 0; i < this.leaderboard.size() && i < MAX_LINES; i++) {
+				var player = this.leaderboard.get(i);
 				String playerName = player.name;
-                /*if ((playerName + ": 10").length() > 16)
-                    playerName = playerName.substring(0, 12);*/
 				if (player.hasLeft()) {
 					content.add(Text.literal(playerName).formatted(Formatting.GRAY, Formatting.STRIKETHROUGH),
 							Text.literal(String.valueOf(player.getKills())).formatted(Formatting.AQUA));
@@ -63,7 +115,7 @@ public class QuakecraftScoreboard {
 					content.add(Text.literal(playerName).formatted(Formatting.GRAY),
 							Text.literal(String.valueOf(player.getKills())).formatted(Formatting.AQUA));
 				}
-			});
+			}
 		});
 	}
 }
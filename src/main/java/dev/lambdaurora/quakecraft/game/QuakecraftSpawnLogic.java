@@ -20,69 +20,198 @@ package dev.lambdaurora.quakecraft.game;
 import dev.lambdaurora.quakecraft.Quakecraft;
 import dev.lambdaurora.quakecraft.game.map.MapSpawn;
 import dev.lambdaurora.quakecraft.game.map.QuakecraftMap;
+import dev.lambdaurora.quakecraft.game.map.SpawnVisibility;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.item.Items;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import net.minecraft.util.math.Box;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.GameMode;
 import xyz.nucleoid.plasmid.api.game.GameSpace;
 import xyz.nucleoid.plasmid.api.util.ItemStackBuilder;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SplittableRandom;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the Quakecraft spawn logic.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class QuakecraftSpawnLogic {
-	private static final Random RANDOM = new Random();
+	/**
+	 * The distance within which an enemy threatens a spawn, also the size of the cells the spawns are indexed in.
+	 */
+	private static final double THREAT_RADIUS = 24.0;
+	/**
+	 * The additional threat of an enemy looking straight at a spawn, relative to an enemy looking away from it.
+	 */
+	private static final double FACING_WEIGHT = 1.0;
 	private final GameSpace space;
 	private final ServerWorld world;
 	private final QuakecraftMap map;
+	private final RandomGenerator random;
 	private final SpawnCache spawnCache;
+	private final double[] spawnPositions;
+	private final Long2ObjectMap<IntArrayList> spawnCells = new Long2ObjectOpenHashMap<>();
+	private final double[] threats;
+	private final long[] visibleSpawns;
 
 	public QuakecraftSpawnLogic(GameSpace space, ServerWorld world, QuakecraftMap map) {
+		this(space, world, map, new SplittableRandom());
+	}
+
+	/**
+	 * Creates the spawn logic of a game.
+	 *
+	 * @param space the game space
+	 * @param world the game world
+	 * @param map the map
+	 * @param random the random generator of the spawn rolls, a seeded generator makes the rolls reproducible
+	 */
+	public QuakecraftSpawnLogic(GameSpace space, ServerWorld world, QuakecraftMap map, RandomGenerator random) {
 		this.space = space;
 		this.world = world;
 		this.map = map;
+		this.random = random;
 		this.spawnCache = new SpawnCache(map.getSpawnCount() / 2);
+
+		this.spawnPositions = new double[map.getSpawnCount() * 3];
+		this.threats = new double[map.getSpawnCount()];
+		this.visibleSpawns = new long[(map.getSpawnCount() + 63) >>> 6];
+		for (int i = 0; i < map.getSpawnCount(); i++) {
+			var pos = map.getSpawn(i).pos();
+			double x = pos.getX() + 0.5;
+			double y = pos.getY() + 1.0;
+			double z = pos.getZ() + 0.5;
+			this.spawnPositions[i * 3] = x;
+			this.spawnPositions[i * 3 + 1] = y;
+			this.spawnPositions[i * 3 + 2] = z;
+
+			this.spawnCells.computeIfAbsent(BlockPos.asLong(toThreatCell(x), toThreatCell(y), toThreatCell(z)), cell -> new IntArrayList())
+					.add(i);
+		}
 	}
 
-	public void spawnPlayer(ServerPlayerEntity player) {
-		MapSpawn spawn = null;
-		int spawnIndex = -1;
-		int lowestPlayers = this.space.getPlayers().size();
-		for (int i = 0; i < this.map.getSpawnCount(); i++) {
-			if (this.spawnCache.contains(i))
+	/**
+	 * Spawns a player at the spawn with the lowest threat from the playing enemies.
+	 * <p>
+	 * Each enemy threatens the spawns within {@link #THREAT_RADIUS} of them, more when they are close and looking towards the spawn.
+	 * The threats of all spawns are accumulated in a single pass over the enemies, which only visit the spawns in the cells around them.
+	 * Spawns in the line of sight of an enemy, looked up in the precomputed {@link SpawnVisibility}, are avoided when possible.
+	 * Until the spawn visibility is computed, only the threats are considered.
+	 *
+	 * @param player the player to spawn
+	 * @param participant the participant of the player
+	 * @param participants the participants of the game
+	 */
+	public void spawnPlayer(ServerPlayerEntity player, QuakecraftPlayer participant, Collection<QuakecraftPlayer> participants) {
+		var visibility = this.map.spawnVisibility();
+		Arrays.fill(this.threats, 0.0);
+		Arrays.fill(this.visibleSpawns, 0L);
+		for (var other : participants) {
+			if (other == participant || !other.isPlaying())
+				continue;
+			if (participant.getTeam() != null && other.getTeam() == participant.getTeam())
 				continue;
-			var currentSpawn = this.map.getSpawn(i);
 
-			var box = Box.enclosing(currentSpawn.pos().add(-16, -5, -16), currentSpawn.pos().add(16, 5, 16));
-			int playersNearSpawn = (int) this.space.getPlayers().stream().filter(p -> box.contains(p.getPos())).count();
-			if (playersNearSpawn < lowestPlayers) {
-				lowestPlayers = playersNearSpawn;
-				spawn = currentSpawn;
-				spawnIndex = i;
-			}
+			var enemy = other.getPlayer();
+			this.addThreat(enemy);
+			if (visibility != null)
+				visibility.addVisibleSpawns(visibility.getCell(enemy.getX(), enemy.getEyeY(), enemy.getZ()), this.visibleSpawns);
 		}
 
+		int spawnIndex = this.findSafestSpawn(true);
+		if (spawnIndex == -1)
+			spawnIndex = this.findSafestSpawn(false);
+
+		MapSpawn spawn;
 		if (spawnIndex == -1) {
 			spawnIndex = this.spawnCache.rollNextSpawn();
 			spawn = this.map.getSpawn(spawnIndex);
 		} else {
+			spawn = this.map.getSpawn(spawnIndex);
 			this.spawnCache.push(spawnIndex);
 		}
 
 		player.teleport(this.world, spawn.pos().getX(), spawn.pos().getY(), spawn.pos().getZ(), Set.of(), spawn.direction(), 0.f, false);
 	}
 
+	/**
+	 * Finds the spawn with the lowest threat which is not in the recent spawn cache.
+	 *
+	 * @param hidden {@code true} to only consider the spawns out of the line of sight of the enemies, else {@code false}
+	 * @return the spawn index, or {@code -1} if no spawn matches
+	 */
+	private int findSafestSpawn(boolean hidden) {
+		int spawnIndex = -1;
+		double lowestThreat = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < this.map.getSpawnCount(); i++) {
+			if (this.spawnCache.contains(i))
+				continue;
+			if (hidden && (this.visibleSpawns[i >>> 6] & (1L << i)) != 0)
+				continue;
+
+			if (this.threats[i] < lowestThreat) {
+				lowestThreat = this.threats[i];
+				spawnIndex = i;
+			}
+		}
+		return spawnIndex;
+	}
+
+	/**
+	 * Adds the threat of an enemy to the spawns around them.
+	 *
+	 * @param enemy the enemy
+	 */
+	private void addThreat(ServerPlayerEntity enemy) {
+		var eye = enemy.getEyePos();
+		var look = enemy.getRotationVec(1.f);
+		int cellX = toThreatCell(eye.x);
+		int cellY = toThreatCell(eye.y);
+		int cellZ = toThreatCell(eye.z);
+
+		for (int y = cellY - 1; y <= cellY + 1; y++) {
+			for (int z = cellZ - 1; z <= cellZ + 1; z++) {
+				for (int x = cellX - 1; x <= cellX + 1; x++) {
+					var cell = this.spawnCells.get(BlockPos.asLong(x, y, z));
+					if (cell == null)
+						continue;
+
+					for (int i = 0; i < cell.size(); i++) {
+						int spawn = cell.getInt(i);
+						double deltaX = this.spawnPositions[spawn * 3] - eye.x;
+						double deltaY = this.spawnPositions[spawn * 3 + 1] - eye.y;
+						double deltaZ = this.spawnPositions[spawn * 3 + 2] - eye.z;
+						double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+						if (distance >= THREAT_RADIUS)
+							continue;
+
+						double proximity = 1.0 - distance / THREAT_RADIUS;
+						double facing = distance < 1.0E-4 ? 1.0
+								: Math.max(0.0, (look.x * deltaX + look.y * deltaY + look.z * deltaZ) / distance);
+						this.threats[spawn] += proximity * proximity * (1.0 + FACING_WEIGHT * facing);
+					}
+				}
+			}
+		}
+	}
+
+	private static int toThreatCell(double coordinate) {
+		return MathHelper.floor(coordinate / THREAT_RADIUS);
+	}
+
 	public void resetWaitingPlayer(ServerPlayerEntity player) {
 		player.changeGameMode(GameMode.ADVENTURE);
 		player.getInventory().clear();
@@ -113,22 +242,23 @@ public class QuakecraftSpawnLogic {
 	}
 
 	/**
-	 * Represents a spawn cache.
+	 * Represents a cache of the last used spawns, as a ring buffer with a bitset for membership.
 	 *
-	 * @version 1.0.1
+	 * @version 1.8.0
 	 * @since 1.0.1
 	 */
 	public class SpawnCache {
 		private final int size;
-		private int[] lastSpawns;
+		private final int[] lastSpawns;
+		private final long[] cached;
+		private int head = 0;
 
 		public SpawnCache(int size) {
 			this.size = size;
 			this.lastSpawns = new int[this.size];
+			this.cached = new long[(map.getSpawnCount() + 63) >>> 6];
 
-			for (int index = 0; index < this.size; index++) {
-				this.lastSpawns[index] = -1;
-			}
+			Arrays.fill(this.lastSpawns, -1);
 		}
 
 		/**
@@ -138,10 +268,7 @@ public class QuakecraftSpawnLogic {
 		 * @return {@code true} if the spawn index is in the cache, else {@code false}
 		 */
 		public boolean contains(int spawn) {
-			for (int cached : this.lastSpawns)
-				if (spawn == cached)
-					return true;
-			return false;
+			return (this.cached[spawn >>> 6] & (1L << spawn)) != 0;
 		}
 
 		/**
@@ -150,19 +277,17 @@ public class QuakecraftSpawnLogic {
 		 * @return the next spawn index
 		 */
 		public int rollNextSpawn() {
-			int index = 0;
-			if (map.getSpawnCount() > 1) {
-				index = RANDOM.nextInt(map.getSpawnCount() - 1);
+			int count = map.getSpawnCount();
+			int index = random.nextInt(count);
 
-				int tries = 0;
-				while (this.contains(index) && tries <= this.size) {
-					index++;
+			int tries = 0;
+			while (this.contains(index) && tries < count) {
+				index++;
 
-					if (index >= map.getSpawnCount())
-						index = 0;
+				if (index >= count)
+					index = 0;
 
-					tries++;
-				}
+				tries++;
 			}
 
 			this.push(index);
@@ -171,14 +296,22 @@ public class QuakecraftSpawnLogic {
 		}
 
 		/**
-		 * Pushes a new last spawn index.
+		 * Pushes a new last spawn index, evicting the oldest one if the cache is full.
+		 * A spawn already in the cache is left as is.
 		 *
 		 * @param spawn the spawn index
 		 */
 		public void push(int spawn) {
-			if (this.size - 1 >= 0) System.arraycopy(this.lastSpawns, 0, this.lastSpawns, 1, this.size - 1);
+			if (this.size == 0 || this.contains(spawn))
+				return;
+
+			int evicted = this.lastSpawns[this.head];
+			if (evicted != -1)
+				this.cached[evicted >>> 6] &= ~(1L << evicted);
 
-			this.lastSpawns[0] = spawn;
+			this.lastSpawns[this.head] = spawn;
+			this.cached[spawn >>> 6] |= 1L << spawn;
+			this.head = (this.head + 1) % this.size;
 		}
 	}
 }
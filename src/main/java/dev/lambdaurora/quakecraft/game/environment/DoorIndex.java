@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game.environment;
+
+import dev.lambdaurora.quakecraft.game.ParticipantIndex;
+import dev.lambdaurora.quakecraft.game.QuakecraftLogic;
+import dev.lambdaurora.quakecraft.game.QuakecraftPlayer;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents an index of the doors of a map, keyed by the cells covering their detection bounds.
+ * <p>
+ * The doors near a participant are only looked up when the participant crosses a cell border,
+ * and only the doors which are detecting a player or are open get ticked.
+ * The cost of doors thus scales with the participants near them instead of the amount of doors.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class DoorIndex implements ParticipantIndex.CellListener {
+	private final QuakecraftLogic game;
+	private final Long2ObjectMap<List<QuakecraftDoor>> cells = new Long2ObjectOpenHashMap<>();
+	private final Int2ObjectMap<NearbyDoors> nearby = new Int2ObjectOpenHashMap<>();
+	private final Set<QuakecraftDoor> active = new ReferenceOpenHashSet<>();
+
+	public DoorIndex(QuakecraftLogic game, List<QuakecraftDoor> doors) {
+		this.game = game;
+
+		for (var door : doors) {
+			var box = door.getDetectionBox();
+			int maxX = ParticipantIndex.toCell(box.maxX);
+			int maxY = ParticipantIndex.toCell(box.maxY);
+			int maxZ = ParticipantIndex.toCell(box.maxZ);
+
+			for (int y = ParticipantIndex.toCell(box.minY); y <= maxY; y++) {
+				for (int z = ParticipantIndex.toCell(box.minZ); z <= maxZ; z++) {
+					for (int x = ParticipantIndex.toCell(box.minX); x <= maxX; x++) {
+						this.cells.computeIfAbsent(BlockPos.asLong(x, y, z), cell -> new ArrayList<>()).add(door);
+					}
+				}
+			}
+
+			// Doors may start open.
+			if (door.isOpen())
+				this.active.add(door);
+		}
+	}
+
+	@Override
+	public void onCellsChanged(QuakecraftPlayer participant, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		List<QuakecraftDoor> doors = null;
+
+		for (int y = minY; y <= maxY; y++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				for (int x = minX; x <= maxX; x++) {
+					var cell = this.cells.get(BlockPos.asLong(x, y, z));
+					if (cell == null)
+						continue;
+
+					for (var door : cell) {
+						if (doors == null)
+							doors = new ArrayList<>(cell.size());
+						if (!doors.contains(door))
+							doors.add(door);
+					}
+				}
+			}
+		}
+
+		if (doors == null) {
+			this.nearby.remove(participant.index);
+		} else {
+			this.nearby.put(participant.index, new NearbyDoors(participant, doors));
+		}
+	}
+
+	@Override
+	public void onRemoved(QuakecraftPlayer participant) {
+		this.nearby.remove(participant.index);
+	}
+
+	/**
+	 * Detects the participants in the detection bounds of the doors near them, then ticks the active doors.
+	 */
+	public void tick() {
+		for (var entry : this.nearby.values()) {
+			var participant = entry.participant();
+			if (!participant.isPlaying())
+				continue;
+
+			var box = participant.getPlayer().getBoundingBox();
+			for (var door : entry.doors()) {
+				if (door.getDetectionBox().intersects(box) && this.game.canOpenDoor(door, participant)) {
+					door.detect();
+					this.active.add(door);
+				}
+			}
+		}
+
+		this.active.removeIf(door -> !door.tick());
+	}
+
+	private record NearbyDoors(QuakecraftPlayer participant, List<QuakecraftDoor> doors) {
+	}
+}
@@ -19,13 +19,21 @@ package dev.lambdaurora.quakecraft.game.environment;
 
 import dev.lambdaurora.quakecraft.block.TeamBarrierBlock;
 import dev.lambdaurora.quakecraft.game.QuakecraftLogic;
+import dev.lambdaurora.quakecraft.game.map.CollisionGrid;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
 import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.NbtHelper;
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
 import net.minecraft.registry.Registries;
-import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Direction;
 import org.jetbrains.annotations.Nullable;
 import xyz.nucleoid.map_templates.BlockBounds;
@@ -36,19 +44,32 @@ import java.util.Optional;
 
 /**
  * Represents a door which opens/closes automatically.
+ * <p>
+ * The world is only modified when the door switches between open and closed.
+ * Those writes skip block updates, and are sent to the players as one section update per chunk section.
  *
  * @author LambdAurora
- * @version 1.7.3
+ * @version 1.8.0
  * @since 1.5.0
  */
 public class QuakecraftDoor {
+	/**
+	 * The flags used to write the door blocks, without neighbor updates nor listener notifications.
+	 */
+	private static final int SILENT_FLAGS = Block.SKIP_DROPS | Block.FORCE_STATE;
+
 	private final QuakecraftLogic game;
 	private final TemplateRegion region;
 	private final BlockBounds bounds;
 	private final BlockBounds detectionBounds;
+	private final Box detectionBox;
 	private final BlockState closedState;
+	private final double[] closedBoxes;
 	private final GameTeam team;
+	private final BlockState openState;
+	private final Long2ObjectMap<ShortSet> sections = new Long2ObjectOpenHashMap<>();
 	private boolean open = false;
+	private boolean detected = false;
 	private int openTicks = 0;
 
 	public QuakecraftDoor(QuakecraftLogic game, TemplateRegion region,
@@ -58,8 +79,14 @@ public class QuakecraftDoor {
 		this.region = region;
 		this.bounds = bounds;
 		this.detectionBounds = detectionBounds;
+		this.detectionBox = detectionBounds.asBox();
 		this.closedState = closedState;
+		this.closedBoxes = CollisionGrid.toBoxes(closedState.getCollisionShape(game.world(), bounds.min()));
 		this.team = team;
+		this.openState = TeamBarrierBlock.getState(game.getTeamIndex(team));
+
+		bounds.forEach(pos -> this.sections.computeIfAbsent(ChunkSectionPos.toLong(pos), section -> new ShortOpenHashSet())
+				.add(ChunkSectionPos.packLocal(pos)));
 	}
 
 	/**
@@ -91,6 +118,15 @@ public class QuakecraftDoor {
 		return this.detectionBounds;
 	}
 
+	/**
+	 * Returns the detection box, whose intersection with any allowed player opens the door.
+	 *
+	 * @return the detection box
+	 */
+	public Box getDetectionBox() {
+		return this.detectionBox;
+	}
+
 	/**
 	 * Returns the team assigned to this door. The team mays be null.
 	 *
@@ -109,37 +145,77 @@ public class QuakecraftDoor {
 		return this.open;
 	}
 
-	public void tick() {
-		var players = this.game.world().getEntitiesByClass(ServerPlayerEntity.class,
-				this.detectionBounds.asBox(),
-				player -> this.game.canOpenDoor(this, player));
-		if (players.size() > 0) {
+	/**
+	 * Marks this door as detecting an allowed player for the current tick.
+	 *
+	 * @see DoorIndex
+	 */
+	void detect() {
+		this.detected = true;
+	}
+
+	/**
+	 * Ticks this door, opening it if a player has been detected and closing it once it has not been for a while.
+	 *
+	 * @return {@code true} if this door still needs to be ticked, else {@code false}
+	 */
+	public boolean tick() {
+		if (this.detected) {
+			this.detected = false;
 			if (!this.open) {
 				this.open();
 			}
 			this.openTicks = 2;
+		} else if (this.openTicks > 0) {
+			this.openTicks--;
+		} else if (this.open) {
+			this.close();
 		}
 
-		if (this.openTicks == 0) {
-			this.close();
-		} else this.openTicks--;
+		return this.open;
 	}
 
 	/**
 	 * Opens the door.
 	 */
 	public void open() {
-		this.getBounds().forEach(pos -> TeamBarrierBlock.createAt(this.game.world(), pos, this.team));
+		var collision = this.game.map().collision();
+		this.getBounds().forEach(pos -> {
+			this.game.world().setBlockState(pos, this.openState, SILENT_FLAGS);
+			collision.setDynamicBoxes(pos, CollisionGrid.EMPTY);
+		});
 		this.open = true;
+		this.sendSections();
 	}
 
 	/**
 	 * Closes the door.
 	 */
 	public void close() {
-		this.getBounds().forEach(pos -> this.game.world().setBlockState(pos, this.closedState,
-				Block.SKIP_DROPS | Block.FORCE_STATE | Block.REDRAW_ON_MAIN_THREAD | Block.NOTIFY_ALL));
+		var collision = this.game.map().collision();
+		this.getBounds().forEach(pos -> {
+			this.game.world().setBlockState(pos, this.closedState, SILENT_FLAGS);
+			collision.setDynamicBoxes(pos, this.closedBoxes);
+		});
 		this.open = false;
+		this.sendSections();
+	}
+
+	/**
+	 * Sends the blocks of this door to the players, with one update per chunk section.
+	 */
+	private void sendSections() {
+		var world = this.game.world();
+		var players = this.game.getSpace().getPlayers();
+
+		for (var entry : Long2ObjectMaps.fastIterable(this.sections)) {
+			long sectionPos = entry.getLongKey();
+			int sectionY = ChunkSectionPos.unpackY(sectionPos);
+			var chunk = world.getChunk(ChunkSectionPos.unpackX(sectionPos), ChunkSectionPos.unpackZ(sectionPos));
+			var section = chunk.getSection(world.sectionCoordToIndex(sectionY));
+
+			players.sendPacket(new ChunkDeltaUpdateS2CPacket(ChunkSectionPos.from(sectionPos), entry.getValue(), section));
+		}
 	}
 
 	public static Optional<QuakecraftDoor> fromRegion(QuakecraftLogic game, TemplateRegion region) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game.map;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.util.shape.VoxelShapes;
+import net.minecraft.world.EmptyBlockView;
+import xyz.nucleoid.map_templates.MapTemplate;
+
+/**
+ * Represents the static block collisions of a map template, compiled once when the map is loaded.
+ * <p>
+ * Occupancy is stored as two packed bitsets, one for cells with any collision and one for full cubes.
+ * The few cells with a partial shape keep their boxes in a sparse map.
+ * Boxes are stored as flat {@code double} arrays of {@code minX, minY, minZ, maxX, maxY, maxZ} relative to the cell.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class CollisionGrid {
+	public static final double[] EMPTY = new double[0];
+	public static final double[] FULL_CUBE = new double[]{0.0, 0.0, 0.0, 1.0, 1.0, 1.0};
+
+	private final int minX;
+	private final int minY;
+	private final int minZ;
+	private final int sizeX;
+	private final int sizeY;
+	private final int sizeZ;
+	private final long[] solid;
+	private final long[] full;
+	private final Long2ObjectMap<double[]> partialBoxes;
+
+	private CollisionGrid(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.sizeX = sizeX;
+		this.sizeY = sizeY;
+		this.sizeZ = sizeZ;
+		int words = (int) (((long) sizeX * sizeY * sizeZ + 63) >>> 6);
+		this.solid = new long[words];
+		this.full = new long[words];
+		this.partialBoxes = new Long2ObjectOpenHashMap<>();
+	}
+
+	/**
+	 * Returns the collision boxes of the specified cell.
+	 *
+	 * @param x the X coordinate of the cell
+	 * @param y the Y coordinate of the cell
+	 * @param z the Z coordinate of the cell
+	 * @return the boxes, relative to the cell
+	 */
+	public double[] getBoxes(int x, int y, int z) {
+		int localX = x - this.minX;
+		int localY = y - this.minY;
+		int localZ = z - this.minZ;
+
+		if (localX < 0 || localY < 0 || localZ < 0 || localX >= this.sizeX || localY >= this.sizeY || localZ >= this.sizeZ)
+			return EMPTY;
+
+		int index = (localY * this.sizeZ + localZ) * this.sizeX + localX;
+		long mask = 1L << index;
+
+		if ((this.solid[index >>> 6] & mask) == 0)
+			return EMPTY;
+		if ((this.full[index >>> 6] & mask) != 0)
+			return FULL_CUBE;
+
+		return this.partialBoxes.getOrDefault(BlockPos.asLong(x, y, z), EMPTY);
+	}
+
+	/**
+	 * Compiles the static collisions of the specified map template.
+	 *
+	 * @param template the map template
+	 * @return the compiled collision grid
+	 */
+	public static CollisionGrid compile(MapTemplate template) {
+		var bounds = template.getBounds();
+		var min = bounds.min();
+		var max = bounds.max();
+		var grid = new CollisionGrid(min.getX(), min.getY(), min.getZ(),
+				max.getX() - min.getX() + 1, max.getY() - min.getY() + 1, max.getZ() - min.getZ() + 1);
+
+		Reference2ObjectMap<VoxelShape, double[]> shapeBoxes = new Reference2ObjectOpenHashMap<>();
+		var pos = new BlockPos.Mutable();
+		int index = 0;
+
+		for (int y = min.getY(); y <= max.getY(); y++) {
+			for (int z = min.getZ(); z <= max.getZ(); z++) {
+				for (int x = min.getX(); x <= max.getX(); x++, index++) {
+					var state = template.getBlockState(pos.set(x, y, z));
+					if (state.isAir())
+						continue;
+
+					var shape = state.getCollisionShape(EmptyBlockView.INSTANCE, pos);
+					if (shape.isEmpty())
+						continue;
+
+					long mask = 1L << index;
+					grid.solid[index >>> 6] |= mask;
+
+					if (shape == VoxelShapes.fullCube()) {
+						grid.full[index >>> 6] |= mask;
+					} else {
+						grid.partialBoxes.put(pos.asLong(), shapeBoxes.computeIfAbsent(shape, CollisionGrid::toBoxes));
+					}
+				}
+			}
+		}
+
+		return grid;
+	}
+
+	/**
+	 * Converts a voxel shape into flat boxes.
+	 *
+	 * @param shape the shape
+	 * @return the boxes
+	 */
+	public static double[] toBoxes(VoxelShape shape) {
+		if (shape.isEmpty())
+			return EMPTY;
+		if (shape == VoxelShapes.fullCube())
+			return FULL_CUBE;
+
+		var list = shape.getBoundingBoxes();
+		var boxes = new double[list.size() * 6];
+		for (int i = 0; i < list.size(); i++) {
+			var box = list.get(i);
+			boxes[i * 6] = box.minX;
+			boxes[i * 6 + 1] = box.minY;
+			boxes[i * 6 + 2] = box.minZ;
+			boxes[i * 6 + 3] = box.maxX;
+			boxes[i * 6 + 4] = box.maxY;
+			boxes[i * 6 + 5] = box.maxZ;
+		}
+		return boxes;
+	}
+}
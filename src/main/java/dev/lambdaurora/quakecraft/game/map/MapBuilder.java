@@ -18,14 +18,17 @@
 package dev.lambdaurora.quakecraft.game.map;
 
 import dev.lambdaurora.quakecraft.Quakecraft;
+import dev.lambdaurora.quakecraft.block.LaunchPadBlock;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
 import xyz.nucleoid.map_templates.BlockBounds;
 import xyz.nucleoid.map_templates.MapTemplate;
 import xyz.nucleoid.map_templates.MapTemplateSerializer;
 import xyz.nucleoid.plasmid.api.game.GameOpenException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -33,16 +36,47 @@ import java.util.stream.Collectors;
  * Manages map loading.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public record MapBuilder(MapConfig config) {
+	/**
+	 * Creates the map of a new game, from the map cache if the map was already loaded.
+	 *
+	 * @param server the server
+	 * @return the map
+	 * @throws GameOpenException if the map cannot be loaded
+	 */
 	public QuakecraftMap create(MinecraftServer server) throws GameOpenException {
+		var cache = Quakecraft.get().getMapCache();
+		var entry = cache.get(this.config.id());
+		if (entry == null) {
+			int generation = cache.getGeneration();
+			entry = load(server, this.config.id());
+			cache.put(this.config.id(), entry, generation);
+		}
+		return entry.createMap();
+	}
+
+	/**
+	 * Loads the specified map into the map cache, called off-thread to warm up the cache.
+	 *
+	 * @param server the server
+	 * @param id the identifier of the map
+	 * @throws GameOpenException if the map cannot be loaded
+	 */
+	public static void preload(MinecraftServer server, Identifier id) throws GameOpenException {
+		var cache = Quakecraft.get().getMapCache();
+		int generation = cache.getGeneration();
+		cache.put(id, load(server, id), generation);
+	}
+
+	private static MapCache.Entry load(MinecraftServer server, Identifier id) throws GameOpenException {
 		MapTemplate template;
 		try {
-			template = MapTemplateSerializer.loadFromResource(server, this.config.id());
+			template = MapTemplateSerializer.loadFromResource(server, id);
 		} catch (IOException e) {
-			throw new GameOpenException(Text.translatable("quakecraft.error.load_map", this.config.id().toString()), e);
+			throw new GameOpenException(Text.translatable("quakecraft.error.load_map", id.toString()), e);
 		}
 
 		BlockBounds spawn = template.getMetadata().getFirstRegionBounds("waiting_spawn");
@@ -61,10 +95,30 @@ public record MapBuilder(MapConfig config) {
 			throw new GameOpenException(Text.literal("No player spawn defined."));
 		}
 
-		var map = new QuakecraftMap(template, spawn, spawns);
-
+		var launchPads = bakeLaunchPads(template);
+		var collisionGrid = CollisionGrid.compile(template);
+		var spawnVisibility = SpawnVisibility.computeAsync(template.getBounds(), collisionGrid, spawns);
 		//template.setBiome(BuiltinBiomes.PLAINS);
 
-		return map;
+		return new MapCache.Entry(template, spawn, spawns, launchPads, collisionGrid, spawnVisibility);
+	}
+
+	/**
+	 * Places the launch pads in the template, so they are generated with the world instead of being placed in each game.
+	 *
+	 * @param template the map template
+	 * @return the bounds of the launch pads
+	 */
+	private static List<BlockBounds> bakeLaunchPads(MapTemplate template) {
+		var launchPads = new ArrayList<BlockBounds>();
+		template.getMetadata().getRegions("launchpad").forEach(region -> {
+			var state = LaunchPadBlock.fromNbt(region.getData());
+			if (state == null)
+				return;
+
+			region.getBounds().forEach(pos -> template.setBlockState(pos, state));
+			launchPads.add(region.getBounds());
+		});
+		return launchPads;
 	}
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game.map;
+
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import xyz.nucleoid.map_templates.BlockBounds;
+import xyz.nucleoid.map_templates.MapTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a cache of the loaded maps, keyed by map identifier, so opening a game on a known map parses nothing.
+ * <p>
+ * The cached data is never modified by the games, so it is shared by every game on the same map.
+ * The least recently used maps are evicted once the cache is full, and the cache is cleared when datapacks are reloaded.
+ * Maps can be loaded in the background beforehand, see {@link MapBuilder#preload(net.minecraft.server.MinecraftServer, Identifier)}.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class MapCache {
+	private final Map<Identifier, Entry> maps;
+	private int generation = 0;
+
+	public MapCache(int maxSize) {
+		this.maps = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Identifier, Entry> eldest) {
+				return this.size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached data of the specified map.
+	 *
+	 * @param id the identifier of the map
+	 * @return the cached data if present, else {@code null}
+	 */
+	public synchronized @Nullable Entry get(Identifier id) {
+		return this.maps.get(id);
+	}
+
+	/**
+	 * Caches the data of the specified map, unless the cache was cleared since the specified generation.
+	 * <p>
+	 * This prevents maps loaded from old datapacks, in the background or across a reload, from being cached after it.
+	 *
+	 * @param id the identifier of the map
+	 * @param entry the map data
+	 * @param generation the generation of the cache when the map started loading
+	 * @see #getGeneration()
+	 */
+	public synchronized void put(Identifier id, Entry entry, int generation) {
+		if (this.generation == generation)
+			this.maps.put(id, entry);
+	}
+
+	/**
+	 * Returns the generation of this cache, which changes every time the cache is cleared.
+	 *
+	 * @return the generation
+	 */
+	public synchronized int getGeneration() {
+		return this.generation;
+	}
+
+	/**
+	 * Drops every cached map.
+	 */
+	public synchronized void clear() {
+		this.maps.clear();
+		this.generation++;
+	}
+
+	/**
+	 * Represents the data of a map which doesn't depend on a running game.
+	 *
+	 * @param template the parsed map template
+	 * @param waitingSpawn the bounds of the waiting spawn
+	 * @param spawns the player spawns
+	 * @param launchPads the bounds of the launch pads, already placed in the template
+	 * @param collisionGrid the static block collisions
+	 * @param spawnVisibility the visibility of the spawns, computed in the background
+	 */
+	public record Entry(MapTemplate template, BlockBounds waitingSpawn, List<MapSpawn> spawns, List<BlockBounds> launchPads,
+	                    CollisionGrid collisionGrid, CompletableFuture<@Nullable SpawnVisibility> spawnVisibility) {
+		public Entry {
+			spawns = List.copyOf(spawns);
+			launchPads = List.copyOf(launchPads);
+		}
+
+		/**
+		 * Creates a new map for a game from this data.
+		 *
+		 * @return the new map
+		 */
+		public QuakecraftMap createMap() {
+			return new QuakecraftMap(this.template, this.waitingSpawn, this.spawns, this.launchPads, this.collisionGrid, this.spawnVisibility);
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game.map;
+
+import dev.lambdaurora.quakecraft.block.TeamBarrierBlock;
+import dev.lambdaurora.quakecraft.util.RayUtils;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Represents the block collisions of a running map: the static {@link CollisionGrid} of its template,
+ * overlaid with the blocks that change while the game runs, like doors.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class MapCollision {
+	private final CollisionGrid grid;
+	private final Long2ObjectMap<double[]> dynamicBoxes = new Long2ObjectOpenHashMap<>();
+	private final Long2IntMap teamBarriers = new Long2IntOpenHashMap();
+
+	public MapCollision(CollisionGrid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * Overrides the collision boxes at the specified position.
+	 *
+	 * @param pos the position
+	 * @param boxes the boxes, relative to the position
+	 * @see CollisionGrid#toBoxes(net.minecraft.util.shape.VoxelShape)
+	 */
+	public void setDynamicBoxes(BlockPos pos, double[] boxes) {
+		this.dynamicBoxes.put(pos.asLong(), boxes);
+	}
+
+	/**
+	 * Places a team barrier at the specified position.
+	 * <p>
+	 * Rays go through team barriers, but the projectiles of the other teams collide with them.
+	 *
+	 * @param pos the position
+	 * @param team the index of the team allowed to pass through the barrier plus one, or {@link TeamBarrierBlock#NO_TEAM}
+	 * @see #raycast(double, double, double, double, double, double, double, int)
+	 */
+	public void setTeamBarrier(BlockPos pos, int team) {
+		this.setDynamicBoxes(pos, CollisionGrid.EMPTY);
+		if (team != TeamBarrierBlock.NO_TEAM)
+			this.teamBarriers.put(pos.asLong(), team);
+	}
+
+	/**
+	 * Returns the collision boxes at the specified position.
+	 *
+	 * @param x the X coordinate
+	 * @param y the Y coordinate
+	 * @param z the Z coordinate
+	 * @return the boxes, relative to the position
+	 */
+	public double[] getBoxes(int x, int y, int z) {
+		if (!this.dynamicBoxes.isEmpty()) {
+			var boxes = this.dynamicBoxes.get(BlockPos.asLong(x, y, z));
+			if (boxes != null)
+				return boxes;
+		}
+		return this.grid.getBoxes(x, y, z);
+	}
+
+	/**
+	 * Casts a ray through the block collisions by walking the crossed cells with a 3D-DDA.
+	 * <p>
+	 * Team barriers are never hit, like the vanilla raycast of a raycasting entity.
+	 *
+	 * @param originX the X coordinate of the ray origin
+	 * @param originY the Y coordinate of the ray origin
+	 * @param originZ the Z coordinate of the ray origin
+	 * @param directionX the X component of the normalized ray direction
+	 * @param directionY the Y component of the normalized ray direction
+	 * @param directionZ the Z component of the normalized ray direction
+	 * @param range the maximum range
+	 * @return the distance of the hit along the ray, or {@code -1} if no block is hit
+	 */
+	public double raycast(double originX, double originY, double originZ,
+	                      double directionX, double directionY, double directionZ, double range) {
+		return this.raycast(originX, originY, originZ, directionX, directionY, directionZ, range, TeamBarrierBlock.NO_TEAM);
+	}
+
+	/**
+	 * Casts a ray through the block collisions by walking the crossed cells with a 3D-DDA.
+	 * <p>
+	 * The team barriers of teams other than the specified one are hit like full blocks, like they collide with players.
+	 *
+	 * @param originX the X coordinate of the ray origin
+	 * @param originY the Y coordinate of the ray origin
+	 * @param originZ the Z coordinate of the ray origin
+	 * @param directionX the X component of the normalized ray direction
+	 * @param directionY the Y component of the normalized ray direction
+	 * @param directionZ the Z component of the normalized ray direction
+	 * @param range the maximum range
+	 * @param team the team index of the ray, or {@link TeamBarrierBlock#NO_TEAM} to go through every team barrier
+	 * @return the distance of the hit along the ray, or {@code -1} if no block is hit
+	 */
+	public double raycast(double originX, double originY, double originZ,
+	                      double directionX, double directionY, double directionZ, double range, int team) {
+		boolean barriers = team != TeamBarrierBlock.NO_TEAM && !this.teamBarriers.isEmpty();
+		int x = MathHelper.floor(originX);
+		int y = MathHelper.floor(originY);
+		int z = MathHelper.floor(originZ);
+
+		int stepX = directionX > 0.0 ? 1 : (directionX < 0.0 ? -1 : 0);
+		int stepY = directionY > 0.0 ? 1 : (directionY < 0.0 ? -1 : 0);
+		int stepZ = directionZ > 0.0 ? 1 : (directionZ < 0.0 ? -1 : 0);
+
+		double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / directionX);
+		double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / directionY);
+		double deltaZ = stepZ == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / directionZ);
+
+		double maxX = stepX == 0 ? Double.POSITIVE_INFINITY : ((stepX > 0 ? x + 1 : x) - originX) / directionX;
+		double maxY = stepY == 0 ? Double.POSITIVE_INFINITY : ((stepY > 0 ? y + 1 : y) - originY) / directionY;
+		double maxZ = stepZ == 0 ? Double.POSITIVE_INFINITY : ((stepZ > 0 ? z + 1 : z) - originZ) / directionZ;
+
+		double entry = 0.0;
+		while (entry <= range) {
+			if (barriers) {
+				int barrier = this.teamBarriers.getOrDefault(BlockPos.asLong(x, y, z), TeamBarrierBlock.NO_TEAM);
+				if (barrier != TeamBarrierBlock.NO_TEAM && barrier != team)
+					return entry;
+			}
+
+			var boxes = this.getBoxes(x, y, z);
+
+			if (boxes == CollisionGrid.FULL_CUBE) {
+				return entry;
+			} else if (boxes.length != 0) {
+				double hit = -1.0;
+				for (int i = 0; i < boxes.length; i += 6) {
+					double distance = RayUtils.intersectBox(originX, originY, originZ, directionX, directionY, directionZ, range,
+							x + boxes[i], y + boxes[i + 1], z + boxes[i + 2],
+							x + boxes[i + 3], y + boxes[i + 4], z + boxes[i + 5]);
+					if (distance >= 0.0 && (hit < 0.0 || distance < hit))
+						hit = distance;
+				}
+
+				if (hit >= 0.0)
+					return hit;
+			}
+
+			if (maxX < maxY && maxX < maxZ) {
+				x += stepX;
+				entry = maxX;
+				maxX += deltaX;
+			} else if (maxY < maxZ) {
+				y += stepY;
+				entry = maxY;
+				maxY += deltaY;
+			} else {
+				z += stepZ;
+				entry = maxZ;
+				maxZ += deltaZ;
+			}
+		}
+
+		return -1.0;
+	}
+}
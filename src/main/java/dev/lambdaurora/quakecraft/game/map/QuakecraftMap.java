@@ -17,12 +17,10 @@
 
 package dev.lambdaurora.quakecraft.game.map;
 
-import dev.lambdaurora.quakecraft.block.LaunchPadBlock;
 import dev.lambdaurora.quakecraft.block.TeamBarrierBlock;
 import dev.lambdaurora.quakecraft.game.QuakecraftLogic;
+import dev.lambdaurora.quakecraft.game.environment.DoorIndex;
 import dev.lambdaurora.quakecraft.game.environment.QuakecraftDoor;
-import net.minecraft.block.Block;
-import net.minecraft.block.BlockState;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.gen.chunk.ChunkGenerator;
@@ -36,25 +34,34 @@ import xyz.nucleoid.plasmid.api.game.world.generator.TemplateChunkGenerator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 /**
  * Represents the Quakecraft map.
  *
  * @author LambdAurora
- * @version 1.7.3
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class QuakecraftMap {
 	private final MapTemplate template;
 	public final BlockBounds waitingSpawn;
 	private final List<MapSpawn> spawns;
+	private final List<BlockBounds> launchPads;
 	private final List<QuakecraftDoor> doors = new ArrayList<>();
+	private final MapCollision collision;
+	private final CompletableFuture<@Nullable SpawnVisibility> spawnVisibility;
+	private DoorIndex doorIndex;
 
-	public QuakecraftMap(MapTemplate template, BlockBounds waitingSpawn, List<MapSpawn> spawns) {
+	public QuakecraftMap(MapTemplate template, BlockBounds waitingSpawn, List<MapSpawn> spawns, List<BlockBounds> launchPads,
+	                     CollisionGrid collisionGrid, CompletableFuture<@Nullable SpawnVisibility> spawnVisibility) {
 		this.template = template;
 		this.waitingSpawn = waitingSpawn;
 		this.spawns = spawns;
+		this.launchPads = launchPads;
+		this.collision = new MapCollision(collisionGrid);
+		this.spawnVisibility = spawnVisibility;
 	}
 
 	/**
@@ -98,41 +105,56 @@ public class QuakecraftMap {
 				.findFirst().orElse(null);
 	}
 
+	/**
+	 * Returns the block collisions of this map, used for raycasts.
+	 *
+	 * @return the map collisions
+	 */
+	public MapCollision collision() {
+		return this.collision;
+	}
+
+	/**
+	 * Returns which spawns are in the line of sight of each part of this map.
+	 *
+	 * @return the spawn visibility, or {@code null} if it is still being computed or could not be computed
+	 */
+	public @Nullable SpawnVisibility spawnVisibility() {
+		return this.spawnVisibility.getNow(null);
+	}
+
 	public void tick() {
-		this.doors.forEach(QuakecraftDoor::tick);
+		if (this.doorIndex != null)
+			this.doorIndex.tick();
 	}
 
 	public void init(ServerWorld world) {
-		this.initLaunchPads(world);
+		this.initLaunchPads();
 	}
 
-	private void initLaunchPads(ServerWorld world) {
-		record LaunchPad(BlockBounds bounds, BlockState state) {
+	private void initLaunchPads() {
+		// The launch pads are already placed in the template, rays only need to go through them.
+		for (var bounds : this.launchPads) {
+			bounds.forEach(pos -> this.collision.setDynamicBoxes(pos, CollisionGrid.EMPTY));
 		}
-
-		this.template.getMetadata().getRegions("launchpad")
-				.map(region -> {
-					var state = LaunchPadBlock.fromNbt(region.getData());
-					if (state == null)
-						return null;
-					return new LaunchPad(region.getBounds(), state);
-				})
-				.filter(Objects::nonNull)
-				.forEach(region -> region.bounds()
-						.forEach(pos -> world.setBlockState(pos, region.state(),
-								Block.SKIP_DROPS | Block.FORCE_STATE | Block.REDRAW_ON_MAIN_THREAD | Block.NOTIFY_ALL)));
 	}
 
 	public void postInit(QuakecraftLogic game) {
 		this.template.getMetadata().getRegions("door").map(region -> QuakecraftDoor.fromRegion(game, region).orElse(null))
 				.filter(Objects::nonNull).forEach(this.doors::add);
+		this.doorIndex = new DoorIndex(game, this.doors);
+		game.getParticipantIndex().addListener(this.doorIndex);
 
 		if (game.getTeams().size() != 0) {
 			this.template.getMetadata().getRegions("team_barrier").forEach(region -> {
 				GameTeam team = game.getTeam(region.getData().getString("team"));
 
 				if (team != null) {
-					region.getBounds().forEach(pos -> TeamBarrierBlock.createAt(game.world(), pos, team));
+					int teamIndex = game.getTeamIndex(team);
+					region.getBounds().forEach(pos -> {
+						TeamBarrierBlock.createAt(game.world(), pos, teamIndex);
+						this.collision.setTeamBarrier(pos, teamIndex);
+					});
 				}
 			});
 		}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.game.map;
+
+import dev.lambdaurora.quakecraft.Quakecraft;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+import xyz.nucleoid.map_templates.BlockBounds;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Represents which spawns are in the line of sight of each cell of a coarse grid over a map, computed once when the map is loaded.
+ * <p>
+ * Each cell stores a bitset of the spawns visible from any of its sample points, using the static collisions of the map.
+ * The sample points are the centers of every other block horizontally and of every block vertically, skipping the ones inside collisions,
+ * so the eyes of a player are never further than a block from a sample point.
+ * Finding the spawns an enemy may see is then a single lookup of the cell they are in.
+ * The rays are cast across the {@linkplain ForkJoinPool#commonPool() common fork/join pool}, in the background of the game opening.
+ * The cost grows with the volume of the map times the amount of spawns, each sample casting a ray of at most {@link #MAX_DISTANCE} blocks per spawn.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class SpawnVisibility {
+	public static final int CELL_SIZE = 4;
+	/**
+	 * The maximum distance at which a spawn is considered visible, the range of the railguns.
+	 */
+	public static final double MAX_DISTANCE = 80.0;
+	private static final double EYE_HEIGHT = 1.62;
+	/**
+	 * The horizontal spacing of the sample points of a cell, in blocks.
+	 */
+	private static final int SAMPLE_SPACING = 2;
+	/**
+	 * The amount of cells computed by a single task.
+	 */
+	private static final int TASK_CELLS = 256;
+
+	private final int minX;
+	private final int minY;
+	private final int minZ;
+	private final int sizeX;
+	private final int sizeY;
+	private final int sizeZ;
+	private final int spawnWords;
+	private final long[] visible;
+
+	private SpawnVisibility(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ, int spawnCount) {
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.sizeX = sizeX;
+		this.sizeY = sizeY;
+		this.sizeZ = sizeZ;
+		this.spawnWords = (spawnCount + 63) >>> 6;
+		this.visible = new long[sizeX * sizeY * sizeZ * this.spawnWords];
+	}
+
+	/**
+	 * Returns the amount of {@code long} words in a spawn bitset.
+	 *
+	 * @return the amount of words
+	 */
+	public int getSpawnWords() {
+		return this.spawnWords;
+	}
+
+	/**
+	 * Returns the index of the cell containing the specified position.
+	 *
+	 * @param x the X coordinate
+	 * @param y the Y coordinate
+	 * @param z the Z coordinate
+	 * @return the cell index, or {@code -1} if the position is outside of the map
+	 */
+	public int getCell(double x, double y, double z) {
+		int cellX = MathHelper.floor((x - this.minX) / CELL_SIZE);
+		int cellY = MathHelper.floor((y - this.minY) / CELL_SIZE);
+		int cellZ = MathHelper.floor((z - this.minZ) / CELL_SIZE);
+
+		if (cellX < 0 || cellY < 0 || cellZ < 0 || cellX >= this.sizeX || cellY >= this.sizeY || cellZ >= this.sizeZ)
+			return -1;
+		return (cellY * this.sizeZ + cellZ) * this.sizeX + cellX;
+	}
+
+	/**
+	 * Adds the spawns visible from the specified cell to a spawn bitset.
+	 *
+	 * @param cell the cell index
+	 * @param spawns the spawn bitset, of {@link #getSpawnWords()} words
+	 */
+	public void addVisibleSpawns(int cell, long[] spawns) {
+		if (cell < 0)
+			return;
+
+		int offset = cell * this.spawnWords;
+		for (int i = 0; i < this.spawnWords; i++) {
+			spawns[i] |= this.visible[offset + i];
+		}
+	}
+
+	/**
+	 * Computes the visibility of the spawns from each cell of the map in the background.
+	 * <p>
+	 * The future completes with {@code null} if the computation fails.
+	 *
+	 * @param bounds the bounds of the map
+	 * @param grid the static collisions of the map
+	 * @param spawns the spawns
+	 * @return the future spawn visibility
+	 */
+	public static CompletableFuture<@Nullable SpawnVisibility> computeAsync(BlockBounds bounds, CollisionGrid grid, List<MapSpawn> spawns) {
+		return CompletableFuture.supplyAsync(() -> compute(bounds, grid, spawns), ForkJoinPool.commonPool())
+				.exceptionally(e -> {
+					Quakecraft.get().logger.error("Could not compute the spawn visibility, spawns will only avoid nearby enemies.", e);
+					return null;
+				});
+	}
+
+	/**
+	 * Computes the visibility of the spawns from each cell of the map.
+	 *
+	 * @param bounds the bounds of the map
+	 * @param grid the static collisions of the map
+	 * @param spawns the spawns
+	 * @return the spawn visibility
+	 */
+	public static SpawnVisibility compute(BlockBounds bounds, CollisionGrid grid, List<MapSpawn> spawns) {
+		var min = bounds.min();
+		var max = bounds.max();
+		var visibility = new SpawnVisibility(min.getX(), min.getY(), min.getZ(),
+				(max.getX() - min.getX()) / CELL_SIZE + 1,
+				(max.getY() - min.getY()) / CELL_SIZE + 1,
+				(max.getZ() - min.getZ()) / CELL_SIZE + 1,
+				spawns.size());
+
+		var eyes = new double[spawns.size() * 3];
+		for (int i = 0; i < spawns.size(); i++) {
+			var pos = spawns.get(i).pos();
+			eyes[i * 3] = pos.getX() + 0.5;
+			eyes[i * 3 + 1] = pos.getY() + EYE_HEIGHT;
+			eyes[i * 3 + 2] = pos.getZ() + 0.5;
+		}
+
+		var collision = new MapCollision(grid);
+		int cells = visibility.sizeX * visibility.sizeY * visibility.sizeZ;
+		ForkJoinPool.commonPool().invoke(new ComputeTask(visibility, collision, eyes, 0, cells));
+
+		return visibility;
+	}
+
+	private void computeCell(MapCollision collision, double[] eyes, int cell) {
+		int cellX = this.minX + (cell % this.sizeX) * CELL_SIZE;
+		int cellZ = this.minZ + ((cell / this.sizeX) % this.sizeZ) * CELL_SIZE;
+		int cellY = this.minY + (cell / (this.sizeX * this.sizeZ)) * CELL_SIZE;
+
+		for (int y = cellY; y < cellY + CELL_SIZE; y++) {
+			for (int z = cellZ; z < cellZ + CELL_SIZE; z += SAMPLE_SPACING) {
+				for (int x = cellX; x < cellX + CELL_SIZE; x += SAMPLE_SPACING) {
+					if (!isInside(collision.getBoxes(x, y, z), 0.5, 0.5, 0.5))
+						this.computeSample(collision, eyes, cell, x + 0.5, y + 0.5, z + 0.5);
+				}
+			}
+		}
+	}
+
+	private void computeSample(MapCollision collision, double[] eyes, int cell, double sampleX, double sampleY, double sampleZ) {
+		int offset = cell * this.spawnWords;
+		for (int spawn = 0; spawn < eyes.length / 3; spawn++) {
+			int word = offset + (spawn >>> 6);
+			long bit = 1L << spawn;
+			if ((this.visible[word] & bit) != 0)
+				continue;
+
+			double deltaX = eyes[spawn * 3] - sampleX;
+			double deltaY = eyes[spawn * 3 + 1] - sampleY;
+			double deltaZ = eyes[spawn * 3 + 2] - sampleZ;
+			double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+			if (distance > MAX_DISTANCE)
+				continue;
+
+			if (distance < 1.0E-4
+					|| collision.raycast(sampleX, sampleY, sampleZ, deltaX / distance, deltaY / distance, deltaZ / distance, distance) < 0.0) {
+				this.visible[word] |= bit;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the specified point, relative to a block, is strictly inside one of its collision boxes.
+	 */
+	private static boolean isInside(double[] boxes, double x, double y, double z) {
+		for (int i = 0; i < boxes.length; i += 6) {
+			if (x > boxes[i] && y > boxes[i + 1] && z > boxes[i + 2]
+					&& x < boxes[i + 3] && y < boxes[i + 4] && z < boxes[i + 5])
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Computes a range of cells, split in halves until it is small enough.
+	 * Each task writes to the words of its own cells only.
+	 */
+	private static final class ComputeTask extends RecursiveAction {
+		private final SpawnVisibility visibility;
+		private final MapCollision collision;
+		private final double[] eyes;
+		private final int from;
+		private final int to;
+
+		ComputeTask(SpawnVisibility visibility, MapCollision collision, double[] eyes, int from, int to) {
+			this.visibility = visibility;
+			this.collision = collision;
+			this.eyes = eyes;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= TASK_CELLS) {
+				for (int cell = this.from; cell < this.to; cell++) {
+					this.visibility.computeCell(this.collision, this.eyes, cell);
+				}
+			} else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new ComputeTask(this.visibility, this.collision, this.eyes, this.from, middle),
+						new ComputeTask(this.visibility, this.collision, this.eyes, middle, this.to));
+			}
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.mixin;
+
+import net.minecraft.entity.decoration.DisplayEntity;
+import net.minecraft.util.math.AffineTransformation;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+@Mixin(DisplayEntity.class)
+public interface DisplayEntityAccessor {
+	@Invoker("setTransformation")
+	void invokeSetTransformation(AffineTransformation transformation);
+
+	@Invoker("setTeleportDuration")
+	void invokeSetTeleportDuration(int teleportDuration);
+}
@@ -17,15 +17,16 @@
 
 package dev.lambdaurora.quakecraft.mixin;
 
+import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.projectile.FireworkRocketEntity;
+import net.minecraft.item.ItemStack;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
 
 @Mixin(FireworkRocketEntity.class)
 public interface FireworkRocketEntityAccessor {
-	@Accessor("lifeTime")
-	int getLifeTime();
-
-	@Accessor("lifeTime")
-	void setLifeTime(int lifeTime);
+	@Accessor("ITEM")
+	static TrackedData<ItemStack> getItemTrackedData() {
+		throw new UnsupportedOperationException("Mixin accessor.");
+	}
 }
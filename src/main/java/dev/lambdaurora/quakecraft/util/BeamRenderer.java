@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.util;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
+import net.minecraft.network.packet.s2c.play.ParticleS2CPacket;
+import net.minecraft.particle.DustParticleEffect;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.ColorHelper;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a renderer of railgun beams.
+ * <p>
+ * Each viewer receives one bundled packet per beam, holding only the points in their view.
+ * The particle spacing grows with the distance from the viewer, and the amount of particle packets sent per tick is capped by a budget.
+ * The shooter is always drawn to first, then the remaining budget is split evenly across the other viewers,
+ * so a beam gets sparser when the budget runs low instead of disappearing for some viewers.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ * @see VisualEffects
+ */
+public final class BeamRenderer {
+	private static final DustParticleEffect BEAM_PARTICLE = new DustParticleEffect(ColorHelper.fromFloats(0, 1.f, 0.647f, 0.f), .75f);
+	private static final double SPACING = 0.5;
+	/**
+	 * The distance from the viewer under which the beam is drawn at full density.
+	 */
+	private static final double FULL_DENSITY_DISTANCE = 16.0;
+	private static final double VIEW_DISTANCE = 96.0;
+	private static final int MAX_POINTS_PER_VIEWER = 256;
+	/**
+	 * The amount of points the shooter receives even when the budget is exhausted, so they always see their shot.
+	 */
+	private static final int MIN_SHOOTER_POINTS = 32;
+	public static final int DEFAULT_TICK_BUDGET = 4096;
+
+	private final int tickBudget;
+	private final DoubleArrayList points = new DoubleArrayList();
+	private int remainingBudget;
+	private long sentPackets;
+	private long culledPackets;
+
+	public BeamRenderer(int tickBudget) {
+		this.tickBudget = tickBudget;
+		this.remainingBudget = tickBudget;
+	}
+
+	/**
+	 * Resets the particle budget, called once per tick.
+	 */
+	public void tick() {
+		this.remainingBudget = this.tickBudget;
+	}
+
+	/**
+	 * Returns the amount of particle packets which can still be sent this tick.
+	 * <p>
+	 * The budget may be negative, as shooters still see their own beams once it is exhausted.
+	 *
+	 * @return the remaining budget
+	 */
+	public int getRemainingBudget() {
+		return this.remainingBudget;
+	}
+
+	/**
+	 * Returns the amount of particle packets sent since the creation of this renderer.
+	 *
+	 * @return the amount of sent packets
+	 */
+	public long getSentPackets() {
+		return this.sentPackets;
+	}
+
+	/**
+	 * Returns the amount of particle packets which were not sent because they were out of view or over budget.
+	 *
+	 * @return the amount of culled packets
+	 */
+	public long getCulledPackets() {
+		return this.culledPackets;
+	}
+
+	/**
+	 * Draws a beam to the specified viewers.
+	 *
+	 * @param viewers the players who may see the beam
+	 * @param shooter the player who fired the beam, drawn to first, may be {@code null}
+	 * @param origin the start of the beam
+	 * @param target the end of the beam
+	 */
+	public void draw(Iterable<ServerPlayerEntity> viewers, @Nullable ServerPlayerEntity shooter, Vec3d origin, Vec3d target) {
+		double length = origin.distanceTo(target);
+		if (length < 1.0E-4)
+			return;
+
+		int others = 0;
+		boolean shooterViews = false;
+		for (var viewer : viewers) {
+			if (viewer == shooter)
+				shooterViews = true;
+			else
+				others++;
+		}
+
+		if (shooterViews)
+			this.draw(shooter, origin, target, length, Math.max(this.remainingBudget, MIN_SHOOTER_POINTS));
+
+		for (var viewer : viewers) {
+			if (viewer == shooter)
+				continue;
+
+			// Share the budget left evenly, the share unused by a viewer goes to the next ones.
+			int share = (this.remainingBudget + others - 1) / others;
+			this.draw(viewer, origin, target, length, share);
+			others--;
+		}
+	}
+
+	private void draw(ServerPlayerEntity viewer, Vec3d origin, Vec3d target, double length, int budget) {
+		double directionX = (target.x - origin.x) / length;
+		double directionY = (target.y - origin.y) / length;
+		double directionZ = (target.z - origin.z) / length;
+
+		var eye = viewer.getEyePos();
+		var look = viewer.getRotationVec(1.f);
+		this.points.clear();
+
+		int culled = 0;
+		double d = 0.0;
+		while (d <= length) {
+			double x = origin.x + directionX * d;
+			double y = origin.y + directionY * d;
+			double z = origin.z + directionZ * d;
+
+			if (VisualEffects.isInView(eye, look, x, y, z, 0.0, VIEW_DISTANCE)) {
+				this.points.add(x);
+				this.points.add(y);
+				this.points.add(z);
+			} else {
+				culled++;
+			}
+
+			double distance = Math.sqrt(eye.squaredDistanceTo(x, y, z));
+			d += SPACING * Math.max(1.0, distance / FULL_DENSITY_DISTANCE);
+		}
+
+		int count = this.points.size() / 3;
+		this.culledPackets += culled;
+
+		int sent = Math.min(count, Math.min(MAX_POINTS_PER_VIEWER, Math.max(0, budget)));
+		this.culledPackets += count - sent;
+		if (sent == 0)
+			return;
+
+		var packets = new ArrayList<Packet<? super ClientPlayPacketListener>>(sent);
+		for (int i = 0; i < sent; i++) {
+			// Evenly subsample the points when the viewer share of the budget is exceeded.
+			int point = (int) ((long) i * count / sent) * 3;
+			packets.add(new ParticleS2CPacket(BEAM_PARTICLE, true, false,
+					this.points.getDouble(point), this.points.getDouble(point + 1), this.points.getDouble(point + 2),
+					0.f, 0.f, 0.f, 1.f, 3));
+		}
+
+		this.send(viewer, packets);
+		this.remainingBudget -= sent;
+		this.sentPackets += sent;
+	}
+
+	private void send(ServerPlayerEntity viewer, List<Packet<? super ClientPlayPacketListener>> packets) {
+		if (packets.size() == 1) {
+			viewer.networkHandler.sendPacket(packets.get(0));
+		} else {
+			viewer.networkHandler.sendPacket(new BundleS2CPacket(packets));
+		}
+	}
+}
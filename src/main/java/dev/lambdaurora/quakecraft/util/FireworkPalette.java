@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.util;
+
+import dev.lambdaurora.quakecraft.mixin.FireworkRocketEntityAccessor;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.FireworkExplosionComponent;
+import net.minecraft.component.type.FireworksComponent;
+import net.minecraft.entity.data.DataTracker;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+
+import java.util.List;
+
+/**
+ * Represents the colors of a firework effect, with the tracked values of the firework rocket computed once.
+ *
+ * @param stack the firework rocket stack
+ * @param trackedValues the tracked values sent to clients when spawning the firework rocket
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ * @see VisualEffects#launchFirework(FireworkPalette, double, double, double, boolean, int)
+ */
+public record FireworkPalette(ItemStack stack, List<DataTracker.SerializedEntry<?>> trackedValues) {
+	/**
+	 * Creates a palette of small ball explosions with the specified colors.
+	 *
+	 * @param colors the colors
+	 * @return the palette
+	 */
+	public static FireworkPalette of(int... colors) {
+		var stack = new ItemStack(Items.FIREWORK_ROCKET);
+		stack.set(DataComponentTypes.FIREWORKS, new FireworksComponent(0, List.of(new FireworkExplosionComponent(FireworkExplosionComponent.Type.SMALL_BALL,
+				IntList.of(colors), IntList.of(), false, false))));
+
+		return new FireworkPalette(stack, List.of(DataTracker.SerializedEntry.of(FireworkRocketEntityAccessor.getItemTrackedData(), stack)));
+	}
+}
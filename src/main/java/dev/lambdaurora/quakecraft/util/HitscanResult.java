@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.util;
+
+import dev.lambdaurora.quakecraft.game.ParticipantIndex;
+import dev.lambdaurora.quakecraft.game.PlayerPositionHistory;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Represents the result of a hitscan shot.
+ * <p>
+ * The block hit and the ordered entity hits are computed once per shot,
+ * then hit resolution and beam rendering both read from this result.
+ * Shots pierce every entity in front of the first block hit.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class HitscanResult {
+	private final Vec3d origin;
+	private final Vec3d direction;
+	private final double range;
+	private final double blockDistance;
+	private final List<Hit> hits;
+
+	private HitscanResult(Vec3d origin, Vec3d direction, double range, double blockDistance, List<Hit> hits) {
+		this.origin = origin;
+		this.direction = direction;
+		this.range = range;
+		this.blockDistance = blockDistance;
+		this.hits = hits;
+	}
+
+	/**
+	 * Returns the origin of the shot, which is the eye position of the shooter.
+	 *
+	 * @return the origin
+	 */
+	public Vec3d origin() {
+		return this.origin;
+	}
+
+	/**
+	 * Returns the normalized direction of the shot.
+	 *
+	 * @return the direction
+	 */
+	public Vec3d direction() {
+		return this.direction;
+	}
+
+	/**
+	 * Returns the distance of the first block hit.
+	 *
+	 * @return the block hit distance, or {@code -1} if no block is hit within range
+	 */
+	public double getBlockDistance() {
+		return this.blockDistance;
+	}
+
+	/**
+	 * Returns the entities hit by the shot, ordered from the closest to the farthest.
+	 *
+	 * @return the hits
+	 */
+	public List<Hit> getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Returns whether the shot hit any entity.
+	 *
+	 * @return {@code true} if the shot hit an entity, else {@code false}
+	 */
+	public boolean isSuccess() {
+		return !this.hits.isEmpty();
+	}
+
+	/**
+	 * Returns the distance at which the shot stops: the farthest hit entity,
+	 * else the first block hit, else the range.
+	 *
+	 * @return the end distance
+	 */
+	public double getEndDistance() {
+		if (this.isSuccess())
+			return this.hits.get(this.hits.size() - 1).distance();
+		return this.blockDistance < 0.0 ? this.range : this.blockDistance;
+	}
+
+	/**
+	 * Returns the position at which the shot stops.
+	 *
+	 * @return the end position
+	 * @see #getEndDistance()
+	 */
+	public Vec3d getEndPos() {
+		return this.origin.add(this.direction.multiply(this.getEndDistance()));
+	}
+
+	/**
+	 * Casts a shot through the entities at their current positions.
+	 *
+	 * @param source the shooter
+	 * @param range the maximum range
+	 * @param margin the margin of entity detection
+	 * @param predicate the predicate to determine if the entity should be hit or not
+	 * @return the shot result
+	 */
+	public static HitscanResult cast(Entity source, double range, double margin, Predicate<Entity> predicate) {
+		var origin = source.getCameraPosVec(1.f);
+		var direction = source.getRotationVec(1.f);
+		double blockDistance = raycastBlocks(source, origin, direction, range);
+		double maxDistance = blockDistance < 0.0 ? range : blockDistance;
+
+		var delta = direction.multiply(range);
+		double testMargin = Math.max(1.0, margin);
+		var testBox = source.getBoundingBox()
+				.stretch(delta)
+				.expand(testMargin, testMargin, testMargin);
+
+		var hits = new ArrayList<Hit>();
+		for (var entity : source.getWorld().getOtherEntities(source, testBox, predicate)) {
+			var box = entity.getBoundingBox();
+			double targetMargin = Math.max(entity.getTargetingMargin(), margin);
+			double distance = RayUtils.intersectBox(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxDistance,
+					box.minX - targetMargin, box.minY - targetMargin, box.minZ - targetMargin,
+					box.maxX + targetMargin, box.maxY + targetMargin, box.maxZ + targetMargin);
+
+			if (distance >= 0.0)
+				hits.add(new Hit(entity, distance));
+		}
+
+		return create(origin, direction, range, blockDistance, hits);
+	}
+
+	/**
+	 * Casts a shot through the participants of a game as they were when the shooter saw them.
+	 *
+	 * @param source the shooter
+	 * @param history the position history of the participants
+	 * @param rewindTicks the amount of ticks to rewind the participants by
+	 * @param range the maximum range
+	 * @param margin the margin of entity detection
+	 * @return the shot result
+	 * @see PlayerPositionHistory#getRewindTicks(ServerPlayerEntity)
+	 */
+	public static HitscanResult cast(ServerPlayerEntity source, PlayerPositionHistory history, double rewindTicks,
+	                                 double range, double margin) {
+		var origin = source.getCameraPosVec(1.f);
+		var direction = source.getRotationVec(1.f);
+		double blockDistance = raycastBlocks(source, origin, direction, range);
+
+		int count = history.raycast(source, origin.x, origin.y, origin.z, direction.x, direction.y, direction.z,
+				blockDistance < 0.0 ? range : blockDistance, margin, rewindTicks);
+
+		var hits = new ArrayList<Hit>(count);
+		for (int hit = 0; hit < count; hit++) {
+			hits.add(new Hit(history.getHitPlayer(hit), history.getHitDistance(hit)));
+		}
+
+		return create(origin, direction, range, blockDistance, hits);
+	}
+
+	/**
+	 * Casts a shot through the playing participants of a game at their current positions.
+	 *
+	 * @param source the shooter
+	 * @param index the spatial index of the participants
+	 * @param range the maximum range
+	 * @param margin the margin of entity detection
+	 * @return the shot result
+	 */
+	public static HitscanResult cast(ServerPlayerEntity source, ParticipantIndex index, double range, double margin) {
+		var origin = source.getCameraPosVec(1.f);
+		var direction = source.getRotationVec(1.f);
+		double blockDistance = raycastBlocks(source, origin, direction, range);
+
+		int count = index.raycast(source, origin.x, origin.y, origin.z, direction.x, direction.y, direction.z,
+				blockDistance < 0.0 ? range : blockDistance, margin);
+
+		var hits = new ArrayList<Hit>(count);
+		for (int hit = 0; hit < count; hit++) {
+			hits.add(new Hit(index.getResult(hit).getPlayer(), index.getResultDistance(hit)));
+		}
+
+		return create(origin, direction, range, blockDistance, hits);
+	}
+
+	private static double raycastBlocks(Entity source, Vec3d origin, Vec3d direction, double range) {
+		return RayUtils.raycastBlocks(source, origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, range);
+	}
+
+	private static HitscanResult create(Vec3d origin, Vec3d direction, double range, double blockDistance, List<Hit> hits) {
+		if (hits.isEmpty()) {
+			hits = Collections.emptyList();
+		} else {
+			hits.sort(Comparator.comparingDouble(Hit::distance));
+		}
+		return new HitscanResult(origin, direction, range, blockDistance, hits);
+	}
+
+	/**
+	 * Represents an entity hit by a shot.
+	 *
+	 * @param entity the hit entity
+	 * @param distance the distance along the shot at which the entity is hit
+	 */
+	public record Hit(Entity entity, double distance) {
+	}
+}
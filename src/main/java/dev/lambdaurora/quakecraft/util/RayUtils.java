@@ -17,21 +17,16 @@
 
 package dev.lambdaurora.quakecraft.util;
 
+import dev.lambdaurora.quakecraft.Quakecraft;
 import net.minecraft.entity.Entity;
-import net.minecraft.particle.DustParticleEffect;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.hit.BlockHitResult;
-import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.hit.HitResult;
-import net.minecraft.util.math.Box;
-import net.minecraft.util.math.ColorHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.RaycastContext;
-import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
-import org.joml.Vector3f;
 
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -39,7 +34,7 @@ import java.util.function.Predicate;
  * Represents a ray utilities class.
  *
  * @author LambdAurora, Gegy
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public final class RayUtils {
@@ -58,158 +53,123 @@ public final class RayUtils {
 	 * @return the absolute distance between the source and the most far hit. The sign bit is used as a boolean to represent a success or not
 	 */
 	public static double raycastEntities(Entity source, double range, double margin, Predicate<Entity> predicate, Consumer<Entity> consumer) {
-		World world = source.getWorld();
+		var result = HitscanResult.cast(source, range, margin, predicate);
+		result.getHits().forEach(hit -> consumer.accept(hit.entity()));
 
-		final Vec3d origin = source.getCameraPosVec(1.0F);
-		final Vec3d delta = source.getRotationVec(1.0F).multiply(range);
-
-		final Vec3d target = origin.add(delta);
-
-		final double testMargin = Math.max(1.0, margin);
-		final Box testBox = source.getBoundingBox()
-				.stretch(delta)
-				.expand(testMargin, testMargin, testMargin);
-
-		BlockHitResult blockHitResult = null;
-		double blockDistance = -1.0;
-		double distance = -1.0;
-
-		boolean success = false;
-
-		for (Entity entity : world.getOtherEntities(source, testBox, predicate)) {
-			Box targetBox = entity.getBoundingBox().expand(Math.max(entity.getTargetingMargin(), margin));
-			double entityDistance = source.squaredDistanceTo(entity);
-
-			if (targetBox.contains(origin) || targetBox.raycast(origin, target).isPresent()) {
-				if (blockHitResult == null) {
-					((RayAccessor) source).quakecraft$setRaycasting(true);
-					blockHitResult = world.raycast(new RaycastContext(origin, target, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, source));
-					((RayAccessor) source).quakecraft$setRaycasting(false);
-				}
-
-				if (blockHitResult.getType() != HitResult.Type.MISS) {
-					if (blockDistance < 0.0) {
-						blockDistance = source.squaredDistanceTo(blockHitResult.getPos());
-					}
-
-					if (entityDistance > blockDistance)
-						continue;
-				}
-
-				success = true;
-				consumer.accept(entity);
-
-				if (entityDistance > distance)
-					distance = entityDistance;
-			}
-		}
-
-		if (distance < 0.0) distance = range;
-		else distance = Math.sqrt(distance);
-
-		return success ? -distance : distance;
+		double distance = result.getEndDistance();
+		return result.isSuccess() ? -distance : distance;
 	}
 
 	/**
-	 * Thanks FarmyFeud (https://github.com/NucleoidMC/farmy-feud/blob/1.16.2/src/main/java/xyz/nucleoid/farmyfeud/game/active/EntityRayTrace.java)
+	 * Casts a ray through blocks.
+	 * <p>
+	 * If the source is in a Quakecraft game, the precompiled collisions of the map are used,
+	 * otherwise this falls back to a vanilla raycast.
+	 *
+	 * @param source the source entity
+	 * @param originX the X coordinate of the ray origin
+	 * @param originY the Y coordinate of the ray origin
+	 * @param originZ the Z coordinate of the ray origin
+	 * @param directionX the X component of the normalized ray direction
+	 * @param directionY the Y component of the normalized ray direction
+	 * @param directionZ the Z component of the normalized ray direction
+	 * @param range the maximum range
+	 * @return the distance of the hit along the ray, or {@code -1} if no block is hit
+	 * @see dev.lambdaurora.quakecraft.game.map.MapCollision#raycast(double, double, double, double, double, double, double)
 	 */
-	public static @Nullable EntityHitResult raycastEntity(Entity source, double range, double margin, Predicate<Entity> predicate) {
-		World world = source.getWorld();
-
-		Vec3d origin = source.getCameraPosVec(1.0F);
-		Vec3d delta = source.getRotationVec(1.0F).multiply(range);
-
-		Vec3d target = origin.add(delta);
-
-		double testMargin = Math.max(1.0, margin);
-
-		Box testBox = source.getBoundingBox()
-				.stretch(delta)
-				.expand(testMargin, testMargin, testMargin);
-
-		double minDistance2 = range * range;
-		Entity hitEntity = null;
-		Vec3d hitPoint = null;
-
-		for (Entity entity : world.getOtherEntities(source, testBox, predicate)) {
-			Box targetBox = entity.getBoundingBox().expand(Math.max(entity.getTargetingMargin(), margin));
-
-			Optional<Vec3d> traceResult = targetBox.raycast(origin, target);
-			if (targetBox.contains(origin)) {
-				return new EntityHitResult(entity, traceResult.orElse(origin));
-			}
-
-			if (traceResult.isPresent()) {
-				Vec3d tracePoint = traceResult.get();
-				double distance2 = origin.squaredDistanceTo(tracePoint);
-
-				if (distance2 < minDistance2) {
-					hitEntity = entity;
-					hitPoint = tracePoint;
-					minDistance2 = distance2;
-				}
+	public static double raycastBlocks(Entity source, double originX, double originY, double originZ,
+	                                   double directionX, double directionY, double directionZ, double range) {
+		if (source.getWorld() instanceof ServerWorld world) {
+			var game = Quakecraft.get().getActiveGame(world);
+			if (game != null) {
+				return game.map().collision().raycast(originX, originY, originZ, directionX, directionY, directionZ, range);
 			}
 		}
 
-		if (hitEntity == null) {
-			return null;
-		}
+		var origin = new Vec3d(originX, originY, originZ);
+		var target = new Vec3d(originX + directionX * range, originY + directionY * range, originZ + directionZ * range);
 
 		((RayAccessor) source).quakecraft$setRaycasting(true);
-		BlockHitResult blockHitResult = world.raycast(new RaycastContext(origin, target, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, source));
+		BlockHitResult blockHitResult = source.getWorld().raycast(new RaycastContext(origin, target, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, source));
 		((RayAccessor) source).quakecraft$setRaycasting(false);
-		if (blockHitResult.getType() != HitResult.Type.MISS) {
-			return null;
-		}
 
-		return new EntityHitResult(hitEntity, hitPoint);
+		if (blockHitResult.getType() == HitResult.Type.MISS)
+			return -1.0;
+		return origin.distanceTo(blockHitResult.getPos());
 	}
 
-	public static void drawRay(ServerWorld world, Entity source, double range) {
-		Vec3d origin = source.getCameraPosVec(1.f).subtract(0, 0.5, 0);
-		Vec3d delta = source.getRotationVec(1.f).multiply(range);
-
-		Vec3d target = origin.add(delta);
-
-		((RayAccessor) source).quakecraft$setRaycasting(true);
-		BlockHitResult blockHitResult = world.raycast(new RaycastContext(origin, target, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, source));
-		((RayAccessor) source).quakecraft$setRaycasting(false);
-		if (blockHitResult.getType() != HitResult.Type.MISS) {
-			target = blockHitResult.getPos();
+	/**
+	 * Intersects a ray with a box using the slab method.
+	 *
+	 * @param originX the X coordinate of the ray origin
+	 * @param originY the Y coordinate of the ray origin
+	 * @param originZ the Z coordinate of the ray origin
+	 * @param directionX the X component of the normalized ray direction
+	 * @param directionY the Y component of the normalized ray direction
+	 * @param directionZ the Z component of the normalized ray direction
+	 * @param range the maximum range
+	 * @return the distance of the entry point along the ray, {@code 0} if the origin is inside the box,
+	 * or {@code -1} if the ray misses the box
+	 */
+	public static double intersectBox(double originX, double originY, double originZ,
+	                                  double directionX, double directionY, double directionZ, double range,
+	                                  double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		double near = 0.0;
+		double far = range;
+
+		if (directionX != 0.0) {
+			double t1 = (minX - originX) / directionX;
+			double t2 = (maxX - originX) / directionX;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		} else if (originX < minX || originX > maxX) {
+			return -1.0;
 		}
 
-		drawRay(world, origin, target);
-	}
-
-	public static void drawRay(ServerWorld world, Entity source, Entity target) {
-		Vec3d origin = source.getCameraPosVec(1.f).subtract(0, 0.5, 0);
-
-		Vec3d end = target.getCameraPosVec(1.f).subtract(0, 0.5, 0);
+		if (directionY != 0.0) {
+			double t1 = (minY - originY) / directionY;
+			double t2 = (maxY - originY) / directionY;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		} else if (originY < minY || originY > maxY) {
+			return -1.0;
+		}
 
-		((RayAccessor) source).quakecraft$setRaycasting(true);
-		BlockHitResult blockHitResult = world.raycast(new RaycastContext(origin, end, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, source));
-		((RayAccessor) source).quakecraft$setRaycasting(false);
-		if (blockHitResult.getType() != HitResult.Type.MISS) {
-			end = blockHitResult.getPos();
+		if (directionZ != 0.0) {
+			double t1 = (minZ - originZ) / directionZ;
+			double t2 = (maxZ - originZ) / directionZ;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		} else if (originZ < minZ || originZ > maxZ) {
+			return -1.0;
 		}
 
-		drawRay(world, origin, end);
+		return near <= far ? near : -1.0;
 	}
 
-	public static void drawRay(ServerWorld world, Vec3d origin, Vec3d target) {
-		Vec3d delta = target.subtract(origin);
-		double length = delta.length();
-		double stepX = delta.x / length;
-		double stepY = delta.y / length;
-		double stepZ = delta.z / length;
-
-		for (double d = 0.0; d <= length; d += 0.5) {
-			double x = origin.x + stepX * d;
-			double y = origin.y + stepY * d;
-			double z = origin.z + stepZ * d;
+	/**
+	 * Draws the beam of a hitscan shot.
+	 *
+	 * @param world the world
+	 * @param shooter the player who shot
+	 * @param result the shot result
+	 */
+	public static void drawRay(ServerWorld world, @Nullable ServerPlayerEntity shooter, HitscanResult result) {
+		drawRay(world, shooter, result.origin().subtract(0, 0.5, 0), result.getEndPos().subtract(0, 0.5, 0));
+	}
 
-			world.spawnParticles(new DustParticleEffect(ColorHelper.fromFloats (0, 1.f, 0.647f, 0.f), .75f),
-					x, y, z, 3, 0.f, 0.f, 0.f, 1.f);
-		}
+	/**
+	 * Draws a beam between two points.
+	 * <p>
+	 * In a Quakecraft game, the beam is drawn to the game players within the particle budget of the game,
+	 * otherwise it is drawn to all players of the world. Points out of the view of a player are not sent to them.
+	 *
+	 * @param world the world
+	 * @param shooter the player who shot, drawn to first, may be {@code null}
+	 * @param origin the start of the beam
+	 * @param target the end of the beam
+	 */
+	public static void drawRay(ServerWorld world, @Nullable ServerPlayerEntity shooter, Vec3d origin, Vec3d target) {
+		VisualEffects.of(world).drawBeam(shooter, origin, target);
 	}
 }
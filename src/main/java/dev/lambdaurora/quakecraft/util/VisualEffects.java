@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.util;
+
+import dev.lambdaurora.quakecraft.Quakecraft;
+import dev.lambdaurora.quakecraft.mixin.EntityAccessor;
+import dev.lambdaurora.quakecraft.mixin.EntityStatusS2CPacketAccessor;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.entity.EntityType;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntitiesDestroyS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntitySpawnS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityStatusS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityTrackerUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.ParticleS2CPacket;
+import net.minecraft.network.packet.s2c.play.PlaySoundS2CPacket;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Represents a dispatcher of visual effects which only sends an effect to the viewers who may see it.
+ * <p>
+ * An effect is sent to a viewer if it is within their view distance and inside a conservative cone around their look direction.
+ * Effects right next to the viewer are always sent, as they may turn around before the particles fade.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class VisualEffects {
+	/**
+	 * The cosine of the half-angle of the view cone, wider than the client field of view to account for wide screens and turning.
+	 */
+	private static final double VIEW_CONE_COS = Math.cos(Math.toRadians(80.0));
+	private static final double NEAR_DISTANCE = 4.0;
+	/**
+	 * The distance beyond which the client drops non-forced particles.
+	 */
+	private static final double PARTICLE_VIEW_DISTANCE = 32.0;
+	/**
+	 * The tracking distance of firework rockets.
+	 */
+	private static final double FIREWORK_VIEW_DISTANCE = 64.0;
+	private static final Vec3d FIREWORK_VELOCITY = new Vec3d(0.0, 0.05, 0.0);
+	private static final byte FIREWORK_EXPLODE_STATUS = 17;
+
+	private final Iterable<ServerPlayerEntity> viewers;
+	private final BeamRenderer beams;
+	/**
+	 * The flying fireworks, as pairs of entity identifier and remaining ticks.
+	 */
+	private final IntArrayList fireworks = new IntArrayList();
+	private long sentPackets;
+	private long culledPackets;
+
+	public VisualEffects(Iterable<ServerPlayerEntity> viewers, int particleBudget) {
+		this.viewers = viewers;
+		this.beams = new BeamRenderer(particleBudget);
+	}
+
+	/**
+	 * Returns the visual effects dispatcher of the specified world.
+	 * <p>
+	 * If the world hosts a Quakecraft game, the dispatcher of the game is returned,
+	 * otherwise an unbudgeted dispatcher to all players of the world is returned.
+	 *
+	 * @param world the world
+	 * @return the visual effects dispatcher
+	 */
+	public static VisualEffects of(ServerWorld world) {
+		var game = Quakecraft.get().getActiveGame(world);
+		if (game != null)
+			return game.getVisualEffects();
+		return new VisualEffects(world.getPlayers(), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Resets the per-tick budgets, called once per tick.
+	 */
+	public void tick() {
+		this.beams.tick();
+		this.tickFireworks();
+	}
+
+	/**
+	 * Returns the amount of effect packets sent since the creation of this dispatcher.
+	 *
+	 * @return the amount of sent packets
+	 */
+	public long getSentPackets() {
+		return this.sentPackets + this.beams.getSentPackets();
+	}
+
+	/**
+	 * Returns the amount of effect packets which were not sent since the creation of this dispatcher.
+	 *
+	 * @return the amount of culled packets
+	 */
+	public long getCulledPackets() {
+		return this.culledPackets + this.beams.getCulledPackets();
+	}
+
+	/**
+	 * Draws a railgun beam.
+	 *
+	 * @param shooter the player who fired the beam, always drawn to first, may be {@code null}
+	 * @param origin the start of the beam
+	 * @param target the end of the beam
+	 */
+	public void drawBeam(@Nullable ServerPlayerEntity shooter, Vec3d origin, Vec3d target) {
+		this.beams.draw(this.viewers, shooter, origin, target);
+	}
+
+	/**
+	 * Spawns the critical particles trailing behind a projectile.
+	 *
+	 * @param x the X coordinate of the projectile
+	 * @param y the Y coordinate of the projectile
+	 * @param z the Z coordinate of the projectile
+	 * @param velocityX the X component of the velocity of the projectile
+	 * @param velocityY the Y component of the velocity of the projectile
+	 * @param velocityZ the Z component of the velocity of the projectile
+	 */
+	public void spawnCritTrail(double x, double y, double z, double velocityX, double velocityY, double velocityZ) {
+		var packets = new ArrayList<Packet<? super ClientPlayPacketListener>>(4);
+		for (int i = 0; i < 4; i++) {
+			packets.add(new ParticleS2CPacket(ParticleTypes.CRIT, false, false,
+					x + velocityX * i / 4.0,
+					y + velocityY * i / 4.0,
+					z + velocityZ * i / 4.0,
+					(float) -velocityX, (float) (-velocityY + 0.2), (float) -velocityZ,
+					0.5f, 1));
+		}
+
+		double speed = Math.sqrt(velocityX * velocityX + velocityY * velocityY + velocityZ * velocityZ);
+		var bundle = new BundleS2CPacket(packets);
+		this.send(bundle, packets.size(), x + velocityX * 0.375, y + velocityY * 0.375, z + velocityZ * 0.375,
+				speed * 0.375 + 1.0, PARTICLE_VIEW_DISTANCE);
+	}
+
+	/**
+	 * Launches a firework which only exists on the clients.
+	 * <p>
+	 * The firework rocket is spawned with packets and is simulated by the clients, the server only tells them when it explodes.
+	 *
+	 * @param palette the colors of the firework
+	 * @param x the X coordinate of the firework
+	 * @param y the Y coordinate of the firework
+	 * @param z the Z coordinate of the firework
+	 * @param silent {@code true} if the launch sound should not be played, else {@code false}
+	 * @param lifetime the amount of ticks before the firework explodes, or {@code 0} to explode immediately
+	 */
+	public void launchFirework(FireworkPalette palette, double x, double y, double z, boolean silent, int lifetime) {
+		int id = EntityAccessor.getCurrentId().incrementAndGet();
+
+		var packets = new ArrayList<Packet<? super ClientPlayPacketListener>>(5);
+		packets.add(new EntitySpawnS2CPacket(id, UUID.randomUUID(), x, y, z, 0.f, 0.f, EntityType.FIREWORK_ROCKET, 0, FIREWORK_VELOCITY, 0.0));
+		packets.add(new EntityTrackerUpdateS2CPacket(id, palette.trackedValues()));
+		if (!silent) {
+			packets.add(new PlaySoundS2CPacket(Registries.SOUND_EVENT.getEntry(SoundEvents.ENTITY_FIREWORK_ROCKET_LAUNCH), SoundCategory.AMBIENT,
+					x, y, z, 3.f, 1.f, 0L));
+		}
+
+		if (lifetime <= 0) {
+			packets.add(createStatusPacket(id, FIREWORK_EXPLODE_STATUS));
+			packets.add(new EntitiesDestroyS2CPacket(id));
+		} else {
+			this.fireworks.add(id);
+			this.fireworks.add(lifetime);
+		}
+
+		// The radius covers the whole view distance, so the firework is sent to every viewer in range whatever they look at.
+		this.send(new BundleS2CPacket(packets), packets.size(), x, y, z, FIREWORK_VIEW_DISTANCE, 0.0);
+	}
+
+	private void tickFireworks() {
+		if (this.fireworks.isEmpty())
+			return;
+
+		var packets = new ArrayList<Packet<? super ClientPlayPacketListener>>();
+		var exploded = new IntArrayList();
+		for (int i = 0; i < this.fireworks.size(); i += 2) {
+			int remaining = this.fireworks.getInt(i + 1) - 1;
+			if (remaining > 0) {
+				this.fireworks.set(i + 1, remaining);
+				continue;
+			}
+
+			int id = this.fireworks.getInt(i);
+			packets.add(createStatusPacket(id, FIREWORK_EXPLODE_STATUS));
+			exploded.add(id);
+			this.fireworks.removeElements(i, i + 2);
+			i -= 2;
+		}
+
+		if (exploded.isEmpty())
+			return;
+
+		packets.add(new EntitiesDestroyS2CPacket(exploded));
+		var bundle = new BundleS2CPacket(packets);
+		for (var viewer : this.viewers) {
+			viewer.networkHandler.sendPacket(bundle);
+		}
+	}
+
+	private static EntityStatusS2CPacket createStatusPacket(int entityId, byte status) {
+		// The public constructor needs an entity, so the buffer constructor is invoked instead.
+		var buf = new PacketByteBuf(Unpooled.buffer(5));
+		buf.writeInt(entityId);
+		buf.writeByte(status);
+		return EntityStatusS2CPacketAccessor.create(buf);
+	}
+
+	/**
+	 * Sends an effect packet to the viewers who may see it.
+	 *
+	 * @param packet the effect packet
+	 * @param weight the amount of effect packets the packet holds, used by the counters
+	 * @param x the X coordinate of the center of the effect
+	 * @param y the Y coordinate of the center of the effect
+	 * @param z the Z coordinate of the center of the effect
+	 * @param radius the radius of the effect around its center
+	 * @param maxDistance the maximum distance at which the effect is visible
+	 */
+	public void send(Packet<? super ClientPlayPacketListener> packet, int weight,
+	                 double x, double y, double z, double radius, double maxDistance) {
+		for (var viewer : this.viewers) {
+			if (isInView(viewer.getEyePos(), viewer.getRotationVec(1.f), x, y, z, radius, maxDistance)) {
+				viewer.networkHandler.sendPacket(packet);
+				this.sentPackets += weight;
+			} else {
+				this.culledPackets += weight;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a viewer may see an effect.
+	 *
+	 * @param eye the eye position of the viewer
+	 * @param look the normalized look direction of the viewer
+	 * @param x the X coordinate of the center of the effect
+	 * @param y the Y coordinate of the center of the effect
+	 * @param z the Z coordinate of the center of the effect
+	 * @param radius the radius of the effect around its center
+	 * @param maxDistance the maximum distance at which the effect is visible
+	 * @return {@code true} if the effect may be seen, else {@code false}
+	 */
+	public static boolean isInView(Vec3d eye, Vec3d look, double x, double y, double z, double radius, double maxDistance) {
+		double deltaX = x - eye.x;
+		double deltaY = y - eye.y;
+		double deltaZ = z - eye.z;
+		double distanceSquared = deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ;
+		double reach = maxDistance + radius;
+
+		if (distanceSquared > reach * reach)
+			return false;
+
+		double distance = Math.sqrt(distanceSquared);
+		if (distance <= radius + NEAR_DISTANCE)
+			return true;
+
+		return look.x * deltaX + look.y * deltaY + look.z * deltaZ >= VIEW_CONE_COS * distance - radius;
+	}
+}
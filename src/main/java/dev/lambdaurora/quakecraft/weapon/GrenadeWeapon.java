@@ -17,7 +17,8 @@
 
 package dev.lambdaurora.quakecraft.weapon;
 
-import dev.lambdaurora.quakecraft.entity.GrenadeEntity;
+import dev.lambdaurora.quakecraft.Quakecraft;
+import dev.lambdaurora.quakecraft.entity.GrenadeProjectile;
 import net.minecraft.item.Item;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -29,7 +30,7 @@ import net.minecraft.util.Identifier;
  * Represents a grenade weapon.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class GrenadeWeapon extends Weapon {
@@ -39,10 +40,12 @@ public class GrenadeWeapon extends Weapon {
 
 	@Override
 	public ActionResult onPrimary(ServerWorld world, ServerPlayerEntity player, Hand hand) {
-		var grenade = new GrenadeEntity(world, player, 40);
-		grenade.setProperties(player, player.getPitch(), player.getYaw(), 0.f, 1.5f, 1.f);
-		grenade.rollCritical();
-		world.spawnEntity(grenade);
+		var game = Quakecraft.get().getActiveGame(world);
+		var participant = Quakecraft.get().getActiveParticipant(player);
+		if (game == null || participant == null)
+			return ActionResult.PASS;
+
+		game.throwGrenade(new GrenadeProjectile(game, participant, player, 40), player, 1.5f, 1.f);
 
 		return super.onPrimary(world, player, hand);
 	}
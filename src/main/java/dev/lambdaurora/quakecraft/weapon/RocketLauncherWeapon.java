@@ -17,6 +17,7 @@
 
 package dev.lambdaurora.quakecraft.weapon;
 
+import dev.lambdaurora.quakecraft.Quakecraft;
 import dev.lambdaurora.quakecraft.entity.RocketEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -31,7 +32,7 @@ import net.minecraft.util.Identifier;
  * Represents a rocket launcher.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.3.0
  */
 public class RocketLauncherWeapon extends Weapon {
@@ -41,7 +42,7 @@ public class RocketLauncherWeapon extends Weapon {
 
 	@Override
 	public ActionResult onPrimary(ServerWorld world, ServerPlayerEntity player, Hand hand) {
-		var rocket = new RocketEntity(world, player, 0, 0, 0);
+		var rocket = new RocketEntity(world, player, Quakecraft.get().getActiveParticipant(player), 0, 0, 0);
 
 		var origin = player.getCameraPosVec(1.0F);
 		var delta = player.getRotationVec(1.0F).multiply(0.25);
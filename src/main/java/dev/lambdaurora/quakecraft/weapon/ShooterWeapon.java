@@ -17,7 +17,10 @@
 
 package dev.lambdaurora.quakecraft.weapon;
 
+import dev.lambdaurora.quakecraft.Quakecraft;
 import dev.lambdaurora.quakecraft.QuakecraftConstants;
+import dev.lambdaurora.quakecraft.game.PlayerPositionHistory;
+import dev.lambdaurora.quakecraft.util.HitscanResult;
 import dev.lambdaurora.quakecraft.util.RayUtils;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -35,7 +38,7 @@ import net.minecraft.util.math.Vec3d;
  * Represents a weapon that shoot.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class ShooterWeapon extends Weapon {
@@ -45,16 +48,25 @@ public class ShooterWeapon extends Weapon {
 
 	@Override
 	public ActionResult onPrimary(ServerWorld world, ServerPlayerEntity player, Hand hand) {
-		var result = RayUtils.raycastEntities(player, 80.0, 0.25, QuakecraftConstants.PLAYER_PREDICATE,
-				entity -> {
-					var hitPlayer = (ServerPlayerEntity) entity;
-					hitPlayer.setAttacker(player);
-					player.setAttacking(hitPlayer);
-					hitPlayer.kill(world);
-				});
-		RayUtils.drawRay(world, player, Math.abs(result));
+		var game = Quakecraft.get().getActiveGame(world);
+		HitscanResult result;
+		if (game != null && game.getConfig().lagCompensation()) {
+			result = HitscanResult.cast(player, game.getPositionHistory(), PlayerPositionHistory.getRewindTicks(player), 80.0, 0.25);
+		} else if (game != null) {
+			result = HitscanResult.cast(player, game.getParticipantIndex(), 80.0, 0.25);
+		} else {
+			result = HitscanResult.cast(player, 80.0, 0.25, QuakecraftConstants.PLAYER_PREDICATE);
+		}
 
-		if (result < 0.0)
+		for (var hit : result.getHits()) {
+			var hitPlayer = (ServerPlayerEntity) hit.entity();
+			hitPlayer.setAttacker(player);
+			player.setAttacking(hitPlayer);
+			hitPlayer.kill(world);
+		}
+		RayUtils.drawRay(world, player, result);
+
+		if (result.isSuccess())
 			return ActionResult.SUCCESS;
 
 		return super.onPrimary(world, player, hand);
@@ -17,6 +17,9 @@
 
 package dev.lambdaurora.quakecraft.weapon;
 
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -24,6 +27,7 @@ import net.minecraft.server.world.ServerWorld;
 
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
+import net.minecraft.util.Formatting;
 import net.minecraft.util.Hand;
 import net.minecraft.util.Identifier;
 import xyz.nucleoid.plasmid.api.util.ItemStackBuilder;
@@ -32,10 +36,16 @@ import xyz.nucleoid.plasmid.api.util.ItemStackBuilder;
  * Represents a weapon.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class Weapon {
+	/**
+	 * The amount of steps of the cooldown bar.
+	 */
+	public static final int COOLDOWN_BAR_STEPS = 10;
+	private static final Text[] COOLDOWN_BARS = createCooldownBars();
+
 	public final Identifier identifier;
 	public final Item item;
 	public final int primaryCooldown;
@@ -43,6 +53,10 @@ public class Weapon {
 	public final int reloadCooldown;
 	public final int clipSize;
 	public final int ammoSize;
+	/**
+	 * The dense identifier of this weapon, assigned by the {@link WeaponTable} which created it.
+	 */
+	int rawId = -1;
 
 	public Weapon(Identifier id, Item item, Settings settings) {
 		this.identifier = id;
@@ -54,6 +68,16 @@ public class Weapon {
 		this.ammoSize = settings.ammoSize;
 	}
 
+	/**
+	 * Returns the dense identifier of this weapon in the {@link WeaponTable} which created it.
+	 *
+	 * @return the weapon identifier, or {@code -1} if this weapon isn't part of a table
+	 * @since 1.8.0
+	 */
+	public int getRawId() {
+		return this.rawId;
+	}
+
 	/**
 	 * Returns whether the weapon has a secondary action.
 	 *
@@ -65,24 +89,48 @@ public class Weapon {
 	}
 
 	/**
-	 * Returns whether this weapon requires ammo or not.
+	 * Returns the step of the cooldown bar to display for the specified remaining secondary cooldown.
 	 *
-	 * @return {@code true} if the weapon requires ammo, else {@code false}
-	 * @since 1.4.0
+	 * @param remaining the remaining secondary cooldown in ticks
+	 * @return the amount of red steps, between {@code 0} and {@link #COOLDOWN_BAR_STEPS}
+	 * @since 1.8.0
 	 */
-	public boolean doesRequireAmmo() {
-		return this.ammoSize > 0;
+	public int getSecondaryCooldownStep(int remaining) {
+		return Math.min(COOLDOWN_BAR_STEPS, (int) (remaining / (double) this.secondaryCooldown * COOLDOWN_BAR_STEPS));
+	}
+
+	/**
+	 * Returns the cooldown bar displayed in the action bar for the specified step.
+	 *
+	 * @param step the amount of red steps
+	 * @return the cooldown bar
+	 * @see #getSecondaryCooldownStep(int)
+	 * @since 1.8.0
+	 */
+	public static Text getCooldownBar(int step) {
+		return COOLDOWN_BARS[step];
+	}
+
+	private static Text[] createCooldownBars() {
+		var bar = "▊".repeat(COOLDOWN_BAR_STEPS);
+		var bars = new Text[COOLDOWN_BAR_STEPS + 1];
+		for (int step = 0; step <= COOLDOWN_BAR_STEPS; step++) {
+			bars[step] = Text.literal("[").formatted(Formatting.GRAY)
+					.append(Text.literal(bar.substring(step)).formatted(Formatting.GREEN))
+					.append(Text.literal(bar.substring(0, step)).formatted(Formatting.RED))
+					.append("]");
+		}
+		return bars;
 	}
 
 	/**
-	 * Returns whether the specified item stack matches this weapon or not.
+	 * Returns whether this weapon requires ammo or not.
 	 *
-	 * @param stack the item stack
-	 * @return {@code true} if the item stack matches this weapon, else {@code false}
+	 * @return {@code true} if the weapon requires ammo, else {@code false}
+	 * @since 1.4.0
 	 */
-	public boolean matchesStack(ItemStack stack) {
-		return !stack.isEmpty()
-				&& this.item == stack.getItem();
+	public boolean doesRequireAmmo() {
+		return this.ammoSize > 0;
 	}
 
 	/**
@@ -119,7 +167,29 @@ public class Weapon {
 				.build();
 	}
 
+	/**
+	 * Represents the constructor of a type of weapon.
+	 *
+	 * @since 1.8.0
+	 */
+	@FunctionalInterface
+	public interface Factory {
+		Weapon create(Identifier id, Item item, Settings settings);
+	}
+
 	public static class Settings {
+		public static final MapCodec<Settings> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
+				Codec.INT.fieldOf("primary_cooldown").forGetter(settings -> settings.primaryCooldown),
+				Codec.INT.optionalFieldOf("secondary_cooldown", -1).forGetter(settings -> settings.secondaryCooldown),
+				Codec.INT.optionalFieldOf("reload_cooldown", -1).forGetter(settings -> settings.reloadCooldown),
+				Codec.INT.optionalFieldOf("clip_size", -1).forGetter(settings -> settings.clipSize),
+				Codec.INT.optionalFieldOf("ammo_size", -1).forGetter(settings -> settings.ammoSize)
+		).apply(instance, (primaryCooldown, secondaryCooldown, reloadCooldown, clipSize, ammoSize) -> new Settings(primaryCooldown)
+				.secondaryCooldown(secondaryCooldown)
+				.reloadCooldown(reloadCooldown)
+				.clipSize(clipSize)
+				.ammoSize(ammoSize)));
+
 		private final int primaryCooldown;
 		private int secondaryCooldown = -1;
 		private int reloadCooldown = -1;
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.weapon;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+/**
+ * Represents the definition of a weapon, as read from a datapack.
+ *
+ * @param type the type of weapon
+ * @param item the item of the weapon
+ * @param settings the settings of the weapon
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public record WeaponDefinition(String type, Item item, Weapon.Settings settings) {
+	public static final Codec<WeaponDefinition> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+			Weapons.TYPE_CODEC.fieldOf("type").forGetter(WeaponDefinition::type),
+			Registries.ITEM.getCodec().fieldOf("item").forGetter(WeaponDefinition::item),
+			Weapon.Settings.CODEC.forGetter(WeaponDefinition::settings)
+	).apply(instance, WeaponDefinition::new));
+
+	/**
+	 * Creates a new weapon from this definition.
+	 *
+	 * @param id the identifier of the weapon
+	 * @return the weapon
+	 */
+	public Weapon create(Identifier id) {
+		return Weapons.TYPES.get(this.type).create(id, this.item, this.settings);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.weapon;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.JsonOps;
+import dev.lambdaurora.quakecraft.Quakecraft;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * Loads the weapons from datapacks, then swaps the weapon table.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class WeaponLoader implements SimpleSynchronousResourceReloadListener {
+	private static final String DIRECTORY = "quakecraft/weapon";
+	private static final String EXTENSION = ".json";
+
+	@Override
+	public Identifier getFabricId() {
+		return Quakecraft.id("weapons");
+	}
+
+	@Override
+	public void reload(ResourceManager manager) {
+		var definitions = new HashMap<Identifier, WeaponDefinition>();
+		var logger = Quakecraft.get().logger;
+
+		for (var entry : manager.findResources(DIRECTORY, path -> path.getPath().endsWith(EXTENSION)).entrySet()) {
+			var path = entry.getKey().getPath();
+			var id = Identifier.of(entry.getKey().getNamespace(),
+					path.substring(DIRECTORY.length() + 1, path.length() - EXTENSION.length()));
+
+			try (var reader = entry.getValue().getReader()) {
+				WeaponDefinition.CODEC.parse(JsonOps.INSTANCE, JsonParser.parseReader(reader))
+						.resultOrPartial(error -> logger.error("Failed to decode weapon {}: {}", id, error))
+						.ifPresent(definition -> definitions.put(id, definition));
+			} catch (IOException | JsonParseException e) {
+				logger.error("Failed to read weapon {}.", id, e);
+			}
+		}
+
+		Weapons.setTable(new WeaponTable(definitions));
+		Quakecraft.get().log("Loaded " + definitions.size() + " weapons.");
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.quakecraft.weapon;
+
+import dev.lambdaurora.quakecraft.Quakecraft;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents an immutable table of weapons, indexed by their dense identifier.
+ * <p>
+ * Weapons are created for each table, so their dense identifiers are only valid within the table which created them.
+ * Each item resolves to a single weapon, the first one by identifier order, and a warning is logged for the other weapons sharing it.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class WeaponTable {
+	public static final WeaponTable EMPTY = new WeaponTable(Map.of());
+
+	private final List<Weapon> weapons;
+	private final Map<Identifier, Weapon> byIdentifier;
+	private final Reference2IntMap<Item> itemToId;
+
+	public WeaponTable(Map<Identifier, WeaponDefinition> definitions) {
+		var weapons = new ArrayList<Weapon>(definitions.size());
+		var byIdentifier = new HashMap<Identifier, Weapon>();
+		var itemToId = new Reference2IntOpenHashMap<Item>();
+		itemToId.defaultReturnValue(-1);
+
+		// Sort the definitions so dense identifiers don't depend on the datapack loading order.
+		definitions.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey(Comparator.comparing(Identifier::toString)))
+				.forEach(entry -> {
+					var weapon = entry.getValue().create(entry.getKey());
+					weapon.rawId = weapons.size();
+					weapons.add(weapon);
+					byIdentifier.put(entry.getKey(), weapon);
+					int existing = itemToId.putIfAbsent(weapon.item, weapon.rawId);
+					if (existing != -1) {
+						Quakecraft.get().logger.warn("Weapons {} and {} share the item {}, stacks of this item will be resolved as {}.",
+								weapons.get(existing).identifier, weapon.identifier, Registries.ITEM.getId(weapon.item), weapons.get(existing).identifier);
+					}
+				});
+
+		this.weapons = Collections.unmodifiableList(weapons);
+		this.byIdentifier = Collections.unmodifiableMap(byIdentifier);
+		this.itemToId = Reference2IntMaps.unmodifiable(itemToId);
+	}
+
+	/**
+	 * Returns the amount of weapons in this table, all weapon identifiers are below this count.
+	 *
+	 * @return the amount of weapons
+	 */
+	public int count() {
+		return this.weapons.size();
+	}
+
+	/**
+	 * Returns the weapon of the specified dense identifier.
+	 *
+	 * @param rawId the dense weapon identifier
+	 * @return the weapon
+	 */
+	public Weapon byRawId(int rawId) {
+		return this.weapons.get(rawId);
+	}
+
+	/**
+	 * Returns the weapon of the specified identifier.
+	 *
+	 * @param id the identifier of the weapon
+	 * @return the weapon if found, else {@code null}
+	 */
+	public @Nullable Weapon get(Identifier id) {
+		return this.byIdentifier.get(id);
+	}
+
+	/**
+	 * Returns the dense identifier of the weapon matching the specified item stack.
+	 *
+	 * @param stack the item stack
+	 * @return the dense weapon identifier, or {@code -1} if the stack isn't a weapon
+	 */
+	public int getRawId(ItemStack stack) {
+		if (stack.isEmpty())
+			return -1;
+		return this.itemToId.getInt(stack.getItem());
+	}
+
+	/**
+	 * Returns the weapon matching the specified item stack.
+	 *
+	 * @param stack the item stack
+	 * @return the weapon if found, else {@code null}
+	 */
+	public @Nullable Weapon get(ItemStack stack) {
+		int rawId = this.getRawId(stack);
+		return rawId < 0 ? null : this.weapons.get(rawId);
+	}
+}
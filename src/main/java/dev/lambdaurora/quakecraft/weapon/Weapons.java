@@ -17,38 +17,67 @@
 
 package dev.lambdaurora.quakecraft.weapon;
 
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import dev.lambdaurora.quakecraft.Quakecraft;
-import net.minecraft.item.Items;
+import net.minecraft.util.Identifier;
 
-public final class Weapons {
-	private Weapons() {
-		throw new UnsupportedOperationException("Weapons only contains static definitions.");
-	}
+import java.util.List;
+import java.util.Map;
 
-	public static final ShooterWeapon BASE_SHOOTER = new ShooterWeapon(
-			Quakecraft.id("base_railgun"),
-			Items.STONE_HOE,
-			new Weapon.Settings(2 * 20 + 10).secondaryCooldown(4 * 20)
-	);
-	public static final ShooterWeapon ADVANCED_SHOOTER = new ShooterWeapon(
-			Quakecraft.id("advanced_railgun"),
-			Items.IRON_HOE,
-			new Weapon.Settings(25).secondaryCooldown(4 * 20)
+/**
+ * Holds the current table of weapons, loaded from datapacks.
+ * <p>
+ * Weapons are defined as JSON files in {@code data/<namespace>/quakecraft/weapon/}.
+ * Each reload builds a new immutable {@link WeaponTable} which replaces the current one atomically,
+ * games keep the table they started with.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.0.0
+ */
+public final class Weapons {
+	/**
+	 * The known weapon types, mapped to the constructor of their weapon class.
+	 */
+	public static final Map<String, Weapon.Factory> TYPES = Map.of(
+			"railgun", ShooterWeapon::new,
+			"rocket_launcher", RocketLauncherWeapon::new,
+			"grenade_launcher", GrenadeWeapon::new
 	);
+	public static final Codec<String> TYPE_CODEC = Codec.STRING.validate(type -> TYPES.containsKey(type)
+			? DataResult.success(type) : DataResult.error(() -> "Unknown weapon type: " + type));
 
-	public static final RocketLauncherWeapon ROCKET_LAUNCHER = new RocketLauncherWeapon(
+	/**
+	 * The weapons given to players when a game doesn't configure a loadout.
+	 */
+	public static final List<Identifier> DEFAULT_LOADOUT = List.of(
+			Quakecraft.id("advanced_railgun"),
 			Quakecraft.id("rocket_launcher"),
-			Items.IRON_AXE,
-			new Weapon.Settings(35)
-					.ammoSize(20)
-					.clipSize(4)
+			Quakecraft.id("grenade_launcher")
 	);
 
-	public static final GrenadeWeapon GRENADE_LAUNCHER = new GrenadeWeapon(
-			Quakecraft.id("grenade_launcher"),
-			Items.BLAZE_ROD,
-			new Weapon.Settings(45)
-					.ammoSize(16)
-					.clipSize(4)
-	);
+	private static volatile WeaponTable table = WeaponTable.EMPTY;
+
+	private Weapons() {
+		throw new UnsupportedOperationException("Weapons only contains static definitions.");
+	}
+
+	/**
+	 * Returns the current table of weapons.
+	 *
+	 * @return the weapon table
+	 */
+	public static WeaponTable getTable() {
+		return table;
+	}
+
+	/**
+	 * Replaces the current table of weapons.
+	 *
+	 * @param newTable the new weapon table
+	 */
+	static void setTable(WeaponTable newTable) {
+		table = newTable;
+	}
 }
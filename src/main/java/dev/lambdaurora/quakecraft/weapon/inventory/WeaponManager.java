@@ -18,8 +18,7 @@
 package dev.lambdaurora.quakecraft.weapon.inventory;
 
 import dev.lambdaurora.quakecraft.weapon.Weapon;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import dev.lambdaurora.quakecraft.weapon.WeaponTable;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -31,43 +30,41 @@ import java.util.List;
 
 /**
  * Represents a weapon manager.
+ * <p>
+ * Weapons are looked up by their dense identifier in the weapon table of the game,
+ * and their secondary cooldowns are stored in an array indexed by it.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.2.0
  */
 public final class WeaponManager {
+	private final WeaponTable table;
 	private final List<Weapon> weapons = new ArrayList<>();
-	private final Object2IntMap<Weapon> secondaryCooldowns = new Object2IntOpenHashMap<>();
+	private final Weapon[] owned;
+	private final int[] secondaryCooldowns;
 
-	public WeaponManager() {
-		this.secondaryCooldowns.defaultReturnValue(0);
+	public WeaponManager(WeaponTable table) {
+		this.table = table;
+		this.owned = new Weapon[table.count()];
+		this.secondaryCooldowns = new int[table.count()];
 	}
 
 	public void add(Weapon weapon) {
 		this.weapons.add(weapon);
+		this.owned[weapon.getRawId()] = weapon;
 	}
 
 	public @Nullable Weapon get(ItemStack stack) {
-		if (stack.isEmpty())
-			return null;
-
-		for (var weapon : this.weapons) {
-			if (weapon.matchesStack(stack))
-				return weapon;
-		}
-		return null;
+		int rawId = this.table.getRawId(stack);
+		return rawId < 0 ? null : this.owned[rawId];
 	}
 
 	public void tick() {
-		for (var weapon : this.weapons) {
-			if (weapon.hasSecondaryAction()) {
-				int currentCooldown = this.secondaryCooldowns.getInt(weapon);
-				if (currentCooldown > 0) {
-					currentCooldown--;
-					this.secondaryCooldowns.put(weapon, currentCooldown);
-				}
-			}
+		var cooldowns = this.secondaryCooldowns;
+		for (int i = 0; i < cooldowns.length; i++) {
+			if (cooldowns[i] > 0)
+				cooldowns[i]--;
 		}
 	}
 
@@ -78,34 +75,26 @@ public final class WeaponManager {
 	}
 
 	public int onPrimary(ServerWorld world, ServerPlayerEntity player, Hand hand) {
-		ItemStack heldStack = player.getStackInHand(hand);
+		var weapon = this.get(player.getStackInHand(hand));
+		if (weapon == null)
+			return -1;
 
-		for (var weapon : this.weapons) {
-			if (weapon.matchesStack(heldStack)) {
-				weapon.onPrimary(world, player, hand);
-				return weapon.primaryCooldown;
-			}
-		}
-
-		return -1;
+		weapon.onPrimary(world, player, hand);
+		return weapon.primaryCooldown;
 	}
 
 	public void onSecondary(ServerWorld world, ServerPlayerEntity player) {
 		ItemStack heldStack = player.getStackInHand(Hand.MAIN_HAND);
 
-		for (var weapon : this.weapons) {
-			if (weapon.matchesStack(heldStack) && weapon.hasSecondaryAction()) {
-				if (this.canUseSecondary(weapon)) {
-					weapon.onSecondary(world, player, heldStack);
-					this.secondaryCooldowns.put(weapon, weapon.secondaryCooldown);
-				}
-				return;
-			}
+		var weapon = this.get(heldStack);
+		if (weapon != null && weapon.hasSecondaryAction() && this.canUseSecondary(weapon)) {
+			weapon.onSecondary(world, player, heldStack);
+			this.secondaryCooldowns[weapon.getRawId()] = weapon.secondaryCooldown;
 		}
 	}
 
 	public int getSecondaryCooldown(Weapon weapon) {
-		return this.secondaryCooldowns.getInt(weapon);
+		return this.secondaryCooldowns[weapon.getRawId()];
 	}
 
 	/**